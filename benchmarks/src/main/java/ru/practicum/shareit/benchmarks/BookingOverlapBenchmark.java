@@ -0,0 +1,67 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingAvailabilityIndex;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingOverlapBenchmark {
+    private static final long ITEM_ID = 1L;
+    private static final long BOOKER_ID = 2L;
+
+    @Param({"100", "10000"})
+    private int bookingsPerItem;
+
+    private ConfigurableApplicationContext context;
+    private BookingAvailabilityIndex bookingAvailabilityIndex;
+    private BookingRepository bookingRepository;
+    private LocalDateTime from;
+    private int probe;
+
+    @Setup
+    public void setUp() {
+        context = ServerContext.start();
+        DataSeeder seeder = new DataSeeder(context.getBean(JdbcTemplate.class));
+        seeder.users(2);
+        seeder.items(1, 1);
+        from = LocalDateTime.now().plusDays(1).withNano(0);
+        seeder.approvedBookings(ITEM_ID, BOOKER_ID, from, bookingsPerItem);
+        bookingAvailabilityIndex = context.getBean(BookingAvailabilityIndex.class);
+        bookingAvailabilityIndex.rebuild();
+        bookingRepository = context.getBean(BookingRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean availabilityIndex() {
+        LocalDateTime start = nextProbe();
+        return bookingAvailabilityIndex.isAvailable(ITEM_ID, start, start.plusMinutes(20));
+    }
+
+    @Benchmark
+    public boolean overlapQuery() {
+        LocalDateTime start = nextProbe();
+        return bookingRepository.existsByItemIdAndIdNotAndStatusAndStartBeforeAndEndAfter(
+                ITEM_ID, 0L, Status.APPROVED, start.plusMinutes(20), start);
+    }
+
+    private LocalDateTime nextProbe() {
+        probe = (probe + 7919) % (bookingsPerItem * 2);
+        return from.plusMinutes(probe * 30L);
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class DataSeeder {
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] NAMES = {
+            "Дрель", "Отвертка", "Молоток", "Пила", "Лестница", "Шуруповерт", "Перфоратор", "Рулетка",
+            "Уровень", "Стремянка", "Палатка", "Велосипед", "Самокат", "Каяк", "Удочка", "Гриль",
+            "Проектор", "Колонка", "Фотоаппарат", "Штатив"
+    };
+    private static final String[] ADJECTIVES = {
+            "ударная", "аккумуляторная", "большая", "малая", "складная", "электрическая", "ручная",
+            "профессиональная", "детская", "туристическая"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    public DataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void users(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            rows.add(new Object[]{"user" + i, "user" + i + "@shareit.ru"});
+        }
+        batch("INSERT INTO users (name, email) VALUES (?, ?)", rows);
+    }
+
+    public List<Long> items(int count, int owners) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = NAMES[random.nextInt(NAMES.length)];
+            String description = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + name.toLowerCase();
+            rows.add(new Object[]{name, description, i % 10 != 0, i % owners + 1});
+        }
+        batch("INSERT INTO items (name, description, available, owner_id) VALUES (?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM items ORDER BY id", Long.class);
+    }
+
+    public void approvedBookings(long itemId, long bookerId, LocalDateTime from, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = from.plusHours(i);
+            rows.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusMinutes(30)),
+                    itemId, bookerId, "APPROVED"});
+        }
+        batch("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    public void comments(long itemId, long authorId, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{"Отзыв " + i, itemId, authorId, Timestamp.valueOf(LocalDateTime.now())});
+        }
+        batch("INSERT INTO comments (text, item_id, author_id, created_date) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemOwnerListingBenchmark {
+    private static final long OWNER_ID = 1L;
+    private static final long BOOKER_ID = 2L;
+    private static final int BOOKINGS_PER_ITEM = 6;
+    private static final int COMMENTS_PER_ITEM = 3;
+
+    @Param({"10", "100"})
+    private int itemsPerOwner;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private PageRequest page;
+
+    @Setup
+    public void setUp() {
+        context = ServerContext.start();
+        DataSeeder seeder = new DataSeeder(context.getBean(JdbcTemplate.class));
+        seeder.users(2);
+        List<Long> itemIds = seeder.items(itemsPerOwner, 1);
+        LocalDateTime from = LocalDateTime.now().minusHours(BOOKINGS_PER_ITEM / 2);
+        for (long itemId : itemIds) {
+            seeder.approvedBookings(itemId, BOOKER_ID, from, BOOKINGS_PER_ITEM);
+            seeder.comments(itemId, BOOKER_ID, COMMENTS_PER_ITEM);
+        }
+        itemService = context.getBean(ItemService.class);
+        page = PageRequest.of(0, itemsPerOwner);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemExtendedDto> getByOwnerId() {
+        return itemService.getByOwnerId(OWNER_ID, page);
+    }
+}
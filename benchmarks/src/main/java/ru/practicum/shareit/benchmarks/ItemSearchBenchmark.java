@@ -0,0 +1,57 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.InvertedIndexItemSearchEngine;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSearchBenchmark {
+    private static final String[] QUERIES = {"дрель", "аккум", "складная пила", "туристическая палатка", "каяк"};
+
+    @Param({"1000", "10000", "100000"})
+    private int catalogueSize;
+
+    @Param({"like", "index"})
+    private String engine;
+
+    private ConfigurableApplicationContext context;
+    private ItemSearchEngine itemSearchEngine;
+    private PageRequest page;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        context = ServerContext.start(ItemSearchEngine.PROPERTY + "=" + engine);
+        DataSeeder seeder = new DataSeeder(context.getBean(JdbcTemplate.class));
+        seeder.users(100);
+        seeder.items(catalogueSize, 100);
+        itemSearchEngine = context.getBean(ItemSearchEngine.class);
+        if (itemSearchEngine instanceof InvertedIndexItemSearchEngine) {
+            ((InvertedIndexItemSearchEngine) itemSearchEngine).rebuild();
+        }
+        page = PageRequest.of(0, 20);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Item> search() {
+        query = (query + 1) % QUERIES.length;
+        return itemSearchEngine.search(QUERIES[query], page);
+    }
+}
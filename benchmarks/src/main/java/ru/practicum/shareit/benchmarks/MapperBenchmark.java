@@ -0,0 +1,100 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.BookingMapperImpl;
+import ru.practicum.shareit.booking.dto.BookingItemDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.ItemMapperImpl;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.mapper.UserMapperImpl;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    private AnnotationConfigApplicationContext context;
+    private ItemMapper itemMapper;
+    private BookingMapper bookingMapper;
+    private Item item;
+    private Booking booking;
+    private Comment comment;
+    private BookingItemDto bookingItemDto;
+    private List<CommentDto> commentDtos;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(UserMapperImpl.class, ItemMapperImpl.class,
+                BookingMapperImpl.class);
+        itemMapper = context.getBean(ItemMapper.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+
+        User owner = User.builder().id(1L).name("owner").email("owner@shareit.ru").build();
+        User booker = User.builder().id(2L).name("booker").email("booker@shareit.ru").build();
+        item = Item.builder().id(1L).name("Дрель").description("Ударная дрель").available(true).owner(owner).build();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        booking = Booking.builder()
+                .id(1L)
+                .start(start)
+                .end(start.plusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(Status.APPROVED)
+                .build();
+        comment = Comment.builder()
+                .id(1L)
+                .text("Отлично")
+                .created(LocalDateTime.now())
+                .author(booker)
+                .itemId(item.getId())
+                .build();
+        bookingItemDto = itemMapper.bookingToBookingItemDto(booking);
+        commentDtos = List.of(itemMapper.commentToCommentDto(comment));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemDto itemToItemDto() {
+        return itemMapper.toItemDto(item);
+    }
+
+    @Benchmark
+    public ItemExtendedDto itemToItemExtendedDto() {
+        return itemMapper.toItemExtendedDto(item, bookingItemDto, bookingItemDto, commentDtos);
+    }
+
+    @Benchmark
+    public BookingItemDto bookingToBookingItemDto() {
+        return itemMapper.bookingToBookingItemDto(booking);
+    }
+
+    @Benchmark
+    public BookingResponseDto bookingToBookingResponseDto() {
+        return bookingMapper.bookingToBookingResponseDto(booking);
+    }
+
+    @Benchmark
+    public CommentDto commentToCommentDto() {
+        return itemMapper.commentToCommentDto(comment);
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public final class ServerContext {
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private ServerContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        Stream<String> defaults = Stream.of(
+                "spring.datasource.url=jdbc:h2:mem:benchmark" + DATABASES.incrementAndGet(),
+                "spring.jpa.show_sql=false",
+                "logging.level.root=WARN",
+                "logging.level.org.springframework.transaction.interceptor=WARN",
+                "logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+        String[] args = Stream.concat(defaults, Arrays.stream(properties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .profiles("test")
+                .run(args);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import ru.practicum.shareit.markers.Constants;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class BatchValidator {
+    private final Validator validator;
+
+    public void validate(List<?> batch, Class<?>... groups) {
+        if (batch.isEmpty() || batch.size() > Constants.BATCH_MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Размер пакета должен быть от 1 до " + Constants.BATCH_MAX_SIZE + ".");
+        }
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Object element = batch.get(i);
+            if (element == null) {
+                errors.add("[" + i + "] пустой элемент пакета");
+                continue;
+            }
+            for (ConstraintViolation<Object> violation : validator.validate(element, groups)) {
+                errors.add("[" + i + "] " + violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    errors.stream().sorted().collect(Collectors.joining("; ")));
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.batch.BatchValidator;
 import ru.practicum.shareit.booking.client.BookingClient;
 import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.markers.Constants;
@@ -13,6 +15,7 @@ import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
 
 @Controller
 @RequestMapping(path = "/bookings")
@@ -20,45 +23,60 @@ import javax.validation.constraints.PositiveOrZero;
 @RequiredArgsConstructor
 public class BookingController {
     private final BookingClient bookingClient;
+    private final BatchValidator batchValidator;
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
-                                          @PathVariable Long id) {
+    public Mono<ResponseEntity<Object>> getById(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                                @PathVariable Long id) {
         return bookingClient.getById(userId, id);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllByBookerId(
+    public Mono<ResponseEntity<Object>> getAllByBookerId(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @RequestParam(name = "state", defaultValue = "ALL") String stateParam,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size) {
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size,
+            @RequestParam(required = false) String cursor) {
         BookingState state = BookingState.stringToState(stateParam).orElseThrow(
                 () -> new IllegalArgumentException("Unknown state: " + stateParam));
-        return bookingClient.getAllByBookerId(userId, state, from, size);
+        return bookingClient.getAllByBookerId(userId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllByOwnerId(
+    public Mono<ResponseEntity<Object>> getAllByOwnerId(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM, required = false) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE, required = false) @Positive Integer size) {
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE, required = false) @Positive Integer size,
+            @RequestParam(required = false) String cursor) {
         BookingState stateEnum = BookingState.stringToState(state).orElseThrow(
                 () -> new IllegalArgumentException("Unknown state: " + state));
-        return bookingClient.getAllByOwnerId(userId, stateEnum, from, size);
+        return bookingClient.getAllByOwnerId(userId, stateEnum, from, size, cursor);
+    }
+
+    @GetMapping("/owner/summary")
+    public Mono<ResponseEntity<Object>> getSummaryByOwnerId(@RequestHeader(Constants.HEADER_USER_ID) Long userId) {
+        return bookingClient.getSummaryByOwnerId(userId);
     }
 
     @PostMapping
-    public ResponseEntity<Object> add(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
-                                      @Valid @RequestBody BookItemRequestDto bookingRequestDto) {
+    public Mono<ResponseEntity<Object>> add(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                            @Valid @RequestBody BookItemRequestDto bookingRequestDto) {
         return bookingClient.add(userId, bookingRequestDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> addBatch(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                                 @RequestBody List<BookItemRequestDto> bookingRequestDtos) {
+        batchValidator.validate(bookingRequestDtos);
+        return bookingClient.addBatch(userId, bookingRequestDtos);
+    }
+
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> update(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
-                                         @PathVariable Long id,
-                                         @RequestParam() Boolean approved) {
+    public Mono<ResponseEntity<Object>> update(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                               @PathVariable Long id,
+                                               @RequestParam() Boolean approved) {
         return bookingClient.update(userId, id, approved);
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import ru.practicum.shareit.booking.enums.ExportFormat;
+import ru.practicum.shareit.client.RestTemplateServerTransport;
+import ru.practicum.shareit.markers.Constants;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Controller
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BookingExportController {
+    private final RestTemplateServerTransport transport;
+
+    @GetMapping("/export")
+    public void exportByBookerId(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                 @RequestParam(defaultValue = "ndjson") String format,
+                                 HttpServletResponse response) throws IOException {
+        transport.stream(exportPath("/bookings/export", format), exportHeaders(userId), response);
+    }
+
+    @GetMapping("/owner/export")
+    public void exportByOwnerId(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                @RequestParam(defaultValue = "ndjson") String format,
+                                HttpServletResponse response) throws IOException {
+        transport.stream(exportPath("/bookings/owner/export", format), exportHeaders(userId), response);
+    }
+
+    static String exportPath(String path, String format) {
+        ExportFormat formatEnum = ExportFormat.stringToFormat(format).orElseThrow(
+                () -> new IllegalArgumentException("Unknown format: " + format));
+        return path + "?format=" + formatEnum.name().toLowerCase();
+    }
+
+    static HttpHeaders exportHeaders(Long userId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(Constants.HEADER_USER_ID, String.valueOf(userId));
+        return headers;
+    }
+}
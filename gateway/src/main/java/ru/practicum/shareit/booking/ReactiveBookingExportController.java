@@ -0,0 +1,42 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.WebClientServerTransport;
+import ru.practicum.shareit.markers.Constants;
+
+import static ru.practicum.shareit.booking.BookingExportController.exportHeaders;
+import static ru.practicum.shareit.booking.BookingExportController.exportPath;
+
+@Controller
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingExportController {
+    private final WebClientServerTransport transport;
+
+    @GetMapping("/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportByBookerId(
+            @RequestHeader(Constants.HEADER_USER_ID) Long userId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        return Mono.fromCallable(() -> exportPath("/bookings/export", format))
+                .flatMap(path -> transport.stream(path, exportHeaders(userId)));
+    }
+
+    @GetMapping("/owner/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportByOwnerId(
+            @RequestHeader(Constants.HEADER_USER_ID) Long userId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        return Mono.fromCallable(() -> exportPath("/bookings/owner/export", format))
+                .flatMap(path -> transport.stream(path, exportHeaders(userId)));
+    }
+}
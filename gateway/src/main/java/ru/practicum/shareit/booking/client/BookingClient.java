@@ -1,64 +1,94 @@
 package ru.practicum.shareit.booking.client;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.client.BaseClient;
-import ru.practicum.shareit.markers.Constants;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ServerTransport;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
+    private static final Set<BookingState> TIME_DEPENDENT_STATES =
+            EnumSet.of(BookingState.CURRENT, BookingState.PAST, BookingState.FUTURE);
 
-    @Autowired
-    public BookingClient(@Value(Constants.HEADER_SERVER_URL) String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public BookingClient(ServerTransport transport, MeterRegistry meterRegistry, GatewayResponseCache responseCache) {
+        super(transport, meterRegistry, responseCache, API_PREFIX, List.of(API_PREFIX, "/items"));
     }
 
-    public ResponseEntity<Object> add(long userId, BookItemRequestDto bookingRequestDto) {
+    public Mono<ResponseEntity<Object>> add(long userId, BookItemRequestDto bookingRequestDto) {
         return post("", userId, bookingRequestDto);
     }
 
-    public ResponseEntity<Object> getById(long userId, Long id) {
+    public Mono<ResponseEntity<Object>> addBatch(long userId, List<BookItemRequestDto> bookingRequestDtos) {
+        return post("/batch", userId, bookingRequestDtos);
+    }
+
+    public Mono<ResponseEntity<Object>> getById(long userId, Long id) {
         return get("/" + id, userId);
     }
 
-    public ResponseEntity<Object> getAllByBookerId(long userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getAllByBookerId(long userId, BookingState state, Integer from, Integer size,
+                                                         String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "size", size,
+                    "cursor", cursor
+            );
+            return getByState("?state={state}&size={size}&cursor={cursor}", userId, state, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
         );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        return getByState("?state={state}&from={from}&size={size}", userId, state, parameters);
     }
 
-    public ResponseEntity<Object> getAllByOwnerId(long userId, BookingState stateEnum, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getAllByOwnerId(long userId, BookingState stateEnum, Integer from, Integer size,
+                                                        String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", stateEnum.name(),
+                    "size", size,
+                    "cursor", cursor
+            );
+            return getByState("/owner?state={state}&size={size}&cursor={cursor}", userId, stateEnum, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", stateEnum.name(),
                 "from", from,
                 "size", size
         );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        return getByState("/owner?state={state}&from={from}&size={size}", userId, stateEnum, parameters);
     }
 
-    public ResponseEntity<Object> update(long userId, long id, Boolean approved) {
+    public Mono<ResponseEntity<Object>> getSummaryByOwnerId(long userId) {
+        return get("/owner/summary", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> update(long userId, long id, Boolean approved) {
         Map<String, Object> parameters = Map.of(
                 "approved", approved
         );
 
         return patch("/" + id + "?approved={approved}", userId, parameters);
     }
+
+    private Mono<ResponseEntity<Object>> getByState(String path, long userId, BookingState state,
+                                                    Map<String, Object> parameters) {
+        return TIME_DEPENDENT_STATES.contains(state)
+                ? getUncached(path, userId, parameters)
+                : get(path, userId, parameters);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.enums;
+
+import java.util.Optional;
+
+public enum ExportFormat {
+
+    NDJSON,
+    CSV;
+
+    public static Optional<ExportFormat> stringToFormat(String stringFormat) {
+        for (ExportFormat format : ExportFormat.values()) {
+            if (format.name().equalsIgnoreCase(stringFormat)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
@@ -1,108 +1,169 @@
 package ru.practicum.shareit.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.metrics.http.Outcome;
 import org.springframework.http.*;
 import org.springframework.lang.Nullable;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.markers.Constants;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 public abstract class BaseClient {
-    protected final RestTemplate rest;
+    public static final String METRIC_NAME = "shareit.gateway.client";
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
 
-    protected BaseClient(RestTemplate rest) {
-        this.rest = rest;
+    private final ServerTransport transport;
+    private final MeterRegistry meterRegistry;
+    private final GatewayResponseCache responseCache;
+    private final String apiPrefix;
+    private final Collection<String> invalidatedPrefixes;
+
+    protected BaseClient(ServerTransport transport, MeterRegistry meterRegistry, GatewayResponseCache responseCache,
+                         String apiPrefix, Collection<String> invalidatedPrefixes) {
+        this.transport = transport;
+        this.meterRegistry = meterRegistry;
+        this.responseCache = responseCache;
+        this.apiPrefix = apiPrefix;
+        this.invalidatedPrefixes = invalidatedPrefixes;
     }
 
-    protected ResponseEntity<Object> get(String path) {
+    protected Mono<ResponseEntity<Object>> get(String path) {
         return get(path, null, null);
     }
 
-    protected ResponseEntity<Object> get(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> get(String path, long userId) {
         return get(path, userId, null);
     }
 
-    protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return get(path, userId, parameters, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters,
+                                               @Nullable String ifNoneMatch) {
+        if (!responseCache.isEnabled()) {
+            return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, ifNoneMatch);
+        }
+        return Mono.defer(() -> {
+            String key = responseCache.key(apiPrefix, path, userId, parameters);
+            ResponseEntity<Object> cached = responseCache.get(key);
+            if (cached != null) {
+                return Mono.just(GatewayResponseCache.matches(ifNoneMatch, cached)
+                        ? GatewayResponseCache.notModified(cached)
+                        : cached);
+            }
+            return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, ifNoneMatch)
+                    .doOnNext(response -> responseCache.put(key, response));
+        });
     }
 
-    protected <T> ResponseEntity<Object> post(String path, T body) {
+    protected Mono<ResponseEntity<Object>> getUncached(String path, Long userId,
+                                                       @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, null);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
         return post(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, long userId, T body) {
         return post(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
-        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body, null);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
-        return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
         return patch(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId) {
         return patch(path, userId, null, null);
     }
 
-    protected ResponseEntity<Object> patch(String path, long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> patch(String path, long userId, @Nullable Map<String, Object> parameters) {
         return patch(path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId, T body) {
         return patch(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
-        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body, null);
     }
 
-    protected void delete(String path) {
-        delete(path, null, null);
+    protected Mono<ResponseEntity<Object>> delete(String path) {
+        return delete(path, null, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> delete(String path, long userId) {
         return delete(path, userId, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
+    protected Mono<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null, null);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body,
+                                                                @Nullable String ifNoneMatch) {
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId, ifNoneMatch));
 
-        ResponseEntity<Object> shareitServerResponse;
-        try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
-        } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+        Mono<ResponseEntity<Object>> response = Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return transport.exchange(method, apiPrefix + path, requestEntity, parameters)
+                    .doOnSuccess(result -> sample.stop(timer(method, path,
+                            String.valueOf(result.getStatusCodeValue()),
+                            Outcome.forStatus(result.getStatusCodeValue()).name())))
+                    .doOnError(e -> sample.stop(timer(method, path, "IO_ERROR", Outcome.UNKNOWN.name())));
+        }).map(BaseClient::prepareGatewayResponse);
+
+        if (method == HttpMethod.GET) {
+            return response;
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return response.doFinally(signal -> responseCache.invalidate(invalidatedPrefixes));
+    }
+
+    private Timer timer(HttpMethod method, String path, String status, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .tag("client", getClass().getSimpleName())
+                .tag("method", method.name())
+                .tag("endpoint", endpoint(path))
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private String endpoint(String path) {
+        int query = path.indexOf('?');
+        String withoutQuery = query >= 0 ? path.substring(0, query) : path;
+        return apiPrefix + ID_SEGMENT.matcher(withoutQuery).replaceAll("/{id}");
     }
 
-    private HttpHeaders defaultHeaders(Long userId) {
+    private HttpHeaders defaultHeaders(Long userId, @Nullable String ifNoneMatch) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         if (userId != null) {
             headers.set(Constants.HEADER_USER_ID, String.valueOf(userId));
         }
+        if (ifNoneMatch != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
         return headers;
     }
 
@@ -111,6 +172,10 @@ public abstract class BaseClient {
             return response;
         }
 
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            return GatewayResponseCache.notModified(response);
+        }
+
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
 
         if (response.hasBody()) {
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class GatewayResponseCache {
+    public static final String CACHE_NAME = "gateway-responses";
+    public static final String METRIC_NAME = "shareit.gateway.cache";
+    private static final List<String> NOT_MODIFIED_HEADERS = List.of(
+            HttpHeaders.ETAG,
+            HttpHeaders.VARY,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.EXPIRES
+    );
+
+    private final boolean enabled;
+    private final Cache<String, ResponseEntity<Object>> responses;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public GatewayResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+        Gauge.builder(METRIC_NAME + ".hit.ratio", responses, cache -> cache.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String key(String region, String path, @Nullable Long userId, @Nullable Map<String, Object> parameters) {
+        return region + "#" + generation(region).get() + path
+                + (parameters != null ? new TreeMap<>(parameters).toString() : "")
+                + "@" + userId;
+    }
+
+    @Nullable
+    public ResponseEntity<Object> get(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    public void put(String key, ResponseEntity<Object> response) {
+        if (response.getStatusCode() == HttpStatus.OK) {
+            responses.put(key, response);
+        }
+    }
+
+    public void invalidate(Collection<String> regions) {
+        regions.forEach(region -> generation(region).incrementAndGet());
+    }
+
+    public static boolean matches(@Nullable String ifNoneMatch, ResponseEntity<Object> response) {
+        String etag = response.getHeaders().getETag();
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || opaque(candidate).equals(opaque));
+    }
+
+    public static ResponseEntity<Object> notModified(ResponseEntity<Object> response) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .headers(headers -> NOT_MODIFIED_HEADERS.stream()
+                        .filter(response.getHeaders()::containsKey)
+                        .forEach(name -> headers.put(name, response.getHeaders().get(name))))
+                .build();
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private AtomicLong generation(String region) {
+        return generations.computeIfAbsent(region, r -> new AtomicLong());
+    }
+}
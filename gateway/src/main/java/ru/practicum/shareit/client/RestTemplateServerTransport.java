@@ -0,0 +1,114 @@
+package ru.practicum.shareit.client;
+
+import org.apache.http.Header;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.markers.Constants;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RestTemplateServerTransport implements ServerTransport {
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection",
+            "content-length",
+            "keep-alive",
+            "transfer-encoding"
+    );
+
+    private final RestTemplate rest;
+    private final CloseableHttpClient serverHttpClient;
+    private final String serverUrl;
+    private final Semaphore leases;
+    private final long acquireTimeoutMillis;
+
+    public RestTemplateServerTransport(@Value(Constants.HEADER_SERVER_URL) String serverUrl,
+                                       RestTemplateBuilder builder,
+                                       CloseableHttpClient serverHttpClient,
+                                       ServerTransportProperties properties) {
+        this.serverHttpClient = serverHttpClient;
+        this.serverUrl = serverUrl;
+        this.leases = new Semaphore(Math.min(properties.getMaxConnections(), properties.getMaxConnectionsPerRoute()));
+        this.acquireTimeoutMillis = properties.getAcquireTimeout().toMillis();
+        this.rest = builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(serverHttpClient))
+                .build();
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                                     @Nullable Map<String, Object> parameters) {
+        return Mono.fromCallable(() -> {
+            acquireLease();
+            try {
+                if (parameters != null) {
+                    return rest.exchange(path, method, requestEntity, Object.class, parameters);
+                }
+                return rest.exchange(path, method, requestEntity, Object.class);
+            } catch (HttpStatusCodeException e) {
+                return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            } finally {
+                leases.release();
+            }
+        });
+    }
+
+    public void stream(String path, HttpHeaders requestHeaders, HttpServletResponse target) throws IOException {
+        try {
+            acquireLease();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Ожидание соединения с сервером прервано.");
+        }
+        HttpGet request = new HttpGet(serverUrl + path);
+        requestHeaders.forEach((name, values) -> values.forEach(value -> request.addHeader(name, value)));
+        try (CloseableHttpResponse response = serverHttpClient.execute(request)) {
+            target.setStatus(response.getStatusLine().getStatusCode());
+            for (Header header : response.getAllHeaders()) {
+                if (!HOP_BY_HOP_HEADERS.contains(header.getName().toLowerCase())) {
+                    target.addHeader(header.getName(), header.getValue());
+                }
+            }
+            org.apache.http.HttpEntity entity = response.getEntity();
+            if (entity != null) {
+                try {
+                    entity.getContent().transferTo(target.getOutputStream());
+                } catch (IOException | RuntimeException e) {
+                    request.abort();
+                    throw e;
+                }
+            }
+        } finally {
+            leases.release();
+        }
+    }
+
+    private void acquireLease() throws InterruptedException {
+        if (!leases.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new ResourceAccessException("Нет свободных соединений с сервером за " + acquireTimeoutMillis + " мс.");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface ServerTransport {
+    <T> Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                              @Nullable Map<String, Object> parameters);
+}
@@ -0,0 +1,118 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.markers.Constants;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+@EnableConfigurationProperties(ServerTransportProperties.class)
+public class ServerTransportConfig {
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Blocking {
+
+        @Bean
+        public PoolingHttpClientConnectionManager serverConnectionManager(ServerTransportProperties properties) {
+            PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager();
+            manager.setMaxTotal(properties.getMaxConnections());
+            manager.setDefaultMaxPerRoute(properties.getMaxConnectionsPerRoute());
+            manager.setValidateAfterInactivity((int) properties.getValidateAfterInactivity().toMillis());
+            return manager;
+        }
+
+        @Bean
+        public CloseableHttpClient serverHttpClient(PoolingHttpClientConnectionManager serverConnectionManager,
+                                                    ServerTransportProperties properties) {
+            long keepAlive = properties.getKeepAlive().toMillis();
+            ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+                long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return duration > 0 ? Math.min(duration, keepAlive) : keepAlive;
+            };
+            RequestConfig requestConfig = RequestConfig.custom()
+                    .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                    .setSocketTimeout((int) properties.getReadTimeout().toMillis())
+                    .setConnectionRequestTimeout((int) properties.getAcquireTimeout().toMillis())
+                    .build();
+            return HttpClients.custom()
+                    .setConnectionManager(serverConnectionManager)
+                    .setDefaultRequestConfig(requestConfig)
+                    .setKeepAliveStrategy(keepAliveStrategy)
+                    .evictExpiredConnections()
+                    .evictIdleConnections(properties.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                    .build();
+        }
+
+        @Bean
+        public MeterBinder serverConnectionPoolMetrics(PoolingHttpClientConnectionManager serverConnectionManager,
+                                                       @Value(Constants.HEADER_SERVER_URL) String serverUrl) {
+            HttpHost host = HttpHost.create(serverUrl);
+            HttpRoute route = new HttpRoute(host);
+            Tags tags = Tags.of("route", host.toURI());
+            return registry -> {
+                gauge(registry, "leased", serverConnectionManager, route, tags, PoolStats::getLeased);
+                gauge(registry, "pending", serverConnectionManager, route, tags, PoolStats::getPending);
+                gauge(registry, "available", serverConnectionManager, route, tags, PoolStats::getAvailable);
+                gauge(registry, "max", serverConnectionManager, route, tags, PoolStats::getMax);
+            };
+        }
+
+        private static void gauge(MeterRegistry registry, String name,
+                                  PoolingHttpClientConnectionManager manager, HttpRoute route, Tags tags,
+                                  ToDoubleFunction<PoolStats> value) {
+            Gauge.builder("shareit.gateway.pool." + name, manager, m -> value.applyAsDouble(m.getStats(route)))
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive {
+
+        @Bean(destroyMethod = "dispose")
+        public ConnectionProvider serverConnectionProvider(ServerTransportProperties properties) {
+            return ConnectionProvider.builder("shareit-server")
+                    .maxConnections(properties.getMaxConnectionsPerRoute())
+                    .pendingAcquireMaxCount(properties.getMaxPendingAcquires())
+                    .pendingAcquireTimeout(properties.getAcquireTimeout())
+                    .maxIdleTime(properties.getMaxIdleTime())
+                    .maxLifeTime(properties.getKeepAlive())
+                    .evictInBackground(properties.getEvictionInterval())
+                    .metrics(true)
+                    .build();
+        }
+
+        @Bean
+        public ReactorClientHttpConnector serverHttpConnector(ConnectionProvider serverConnectionProvider,
+                                                              ServerTransportProperties properties) {
+            HttpClient httpClient = HttpClient.create(serverConnectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                    .responseTimeout(properties.getReadTimeout());
+            return new ReactorClientHttpConnector(httpClient);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.transport")
+public class ServerTransportProperties {
+    private int maxConnections = 200;
+    private int maxConnectionsPerRoute = 100;
+    private int maxPendingAcquires = 1000;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private Duration maxIdleTime = Duration.ofSeconds(20);
+    private Duration evictionInterval = Duration.ofSeconds(10);
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.markers.Constants;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class WebClientServerTransport implements ServerTransport {
+    private static final List<String> HOP_BY_HOP_HEADERS = List.of(
+            HttpHeaders.CONNECTION,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.TRANSFER_ENCODING
+    );
+
+    private final WebClient web;
+
+    public WebClientServerTransport(@Value(Constants.HEADER_SERVER_URL) String serverUrl,
+                                    WebClient.Builder builder,
+                                    ReactorClientHttpConnector serverHttpConnector) {
+        this.web = builder
+                .baseUrl(serverUrl)
+                .clientConnector(serverHttpConnector)
+                .build();
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                                     @Nullable Map<String, Object> parameters) {
+        WebClient.RequestBodySpec request = web.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> headers.addAll(requestEntity.getHeaders()));
+        WebClient.RequestHeadersSpec<?> spec = requestEntity.hasBody()
+                ? request.bodyValue(requestEntity.getBody())
+                : request;
+        return spec.exchangeToMono(response -> response.toEntity(Object.class))
+                .map(WebClientServerTransport::withoutHopByHopHeaders);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> stream(String path, HttpHeaders requestHeaders) {
+        return web.get()
+                .uri(path)
+                .headers(headers -> headers.addAll(requestHeaders))
+                .retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(WebClientServerTransport::withoutHopByHopHeaders);
+    }
+
+    private static <B> ResponseEntity<B> withoutHopByHopHeaders(ResponseEntity<B> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        HOP_BY_HOP_HEADERS.forEach(headers::remove);
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+}
@@ -2,9 +2,11 @@ package ru.practicum.shareit.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestControllerAdvice
 @Slf4j
@@ -30,6 +32,12 @@ public class ErrorHandler {
         return new ErrorResponse(exception.getMessage());
     }
 
+    @ExceptionHandler({ResponseStatusException.class})
+    public ResponseEntity<ErrorResponse> handleResponseStatus(final ResponseStatusException exception) {
+        log.debug("Получен статус {} {}", exception.getRawStatusCode(), exception.getMessage(), exception);
+        return ResponseEntity.status(exception.getRawStatusCode()).body(new ErrorResponse(exception.getReason()));
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleException(final RuntimeException exception) {
@@ -1,10 +1,13 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.batch.BatchValidator;
 import ru.practicum.shareit.markers.Constants;
 import ru.practicum.shareit.item.client.ItemClient;
 import ru.practicum.shareit.item.dto.CommentDto;
@@ -15,6 +18,7 @@ import ru.practicum.shareit.markers.Update;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
 
 @Controller
 @RequestMapping("/items")
@@ -22,9 +26,10 @@ import javax.validation.constraints.PositiveOrZero;
 @RequiredArgsConstructor
 public class ItemController {
     private final ItemClient itemClient;
+    private final BatchValidator batchValidator;
 
     @GetMapping
-    public ResponseEntity<Object> getByOwnerId(
+    public Mono<ResponseEntity<Object>> getByOwnerId(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM) @PositiveOrZero Integer from,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size) {
@@ -32,32 +37,41 @@ public class ItemController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
-                                          @PathVariable Long id) {
-        return itemClient.getById(userId, id);
+    public Mono<ResponseEntity<Object>> getById(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                                @PathVariable Long id,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return itemClient.getById(userId, id, ifNoneMatch);
     }
 
     @Validated
     @PostMapping
-    public ResponseEntity<Object> add(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
-                                      @Validated(Create.class) @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> add(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                            @Validated(Create.class) @RequestBody ItemDto itemDto) {
         return itemClient.add(userId, itemDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> addBatch(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                                 @RequestBody List<ItemDto> itemDtos) {
+        batchValidator.validate(itemDtos, Create.class);
+        return itemClient.addBatch(userId, itemDtos);
+    }
+
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> update(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
-                                         @PathVariable Long id,
-                                         @Validated(Update.class) @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> update(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                               @PathVariable Long id,
+                                               @Validated(Update.class) @RequestBody ItemDto itemDto) {
         return itemClient.update(userId, id, itemDto);
     }
 
+    @ResponseBody
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) {
-        itemClient.deleteItem(id);
+    public Mono<Void> delete(@PathVariable Long id) {
+        return itemClient.deleteItem(id);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> search(
+    public Mono<ResponseEntity<Object>> search(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @RequestParam String text,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM) @PositiveOrZero Integer from,
@@ -66,9 +80,9 @@ public class ItemController {
     }
 
     @PostMapping("{id}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(Constants.HEADER_USER_ID) long userId,
-                                             @PathVariable long id,
-                                             @Valid @RequestBody CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> addComment(@RequestHeader(Constants.HEADER_USER_ID) long userId,
+                                                   @PathVariable long id,
+                                                   @Valid @RequestBody CommentDto commentDto) {
         return itemClient.addComment(userId, id, commentDto);
     }
 }
\ No newline at end of file
@@ -1,14 +1,13 @@
 package ru.practicum.shareit.item.client;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
-import ru.practicum.shareit.markers.Constants;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ServerTransport;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
@@ -20,31 +19,29 @@ public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
-    @Autowired
-    public ItemClient(@Value(Constants.HEADER_SERVER_URL) String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(ServerTransport transport, MeterRegistry meterRegistry, GatewayResponseCache responseCache) {
+        super(transport, meterRegistry, responseCache, API_PREFIX, List.of(API_PREFIX, "/requests", "/bookings"));
     }
 
-    public ResponseEntity<Object> add(long userId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> add(long userId, ItemDto itemDto) {
 
         return post("", userId, itemDto);
     }
 
-    public ResponseEntity<Object> addComment(long userId, long id, CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> addBatch(long userId, List<ItemDto> itemDtos) {
+        return post("/batch", userId, itemDtos);
+    }
+
+    public Mono<ResponseEntity<Object>> addComment(long userId, long id, CommentDto commentDto) {
 
         return post("/" + id + "/comment", userId, commentDto);
     }
 
-    public ResponseEntity<Object> getById(long userId, long id) {
-        return get("/" + id, userId);
+    public Mono<ResponseEntity<Object>> getById(long userId, long id, @Nullable String ifNoneMatch) {
+        return get("/" + id, userId, null, ifNoneMatch);
     }
 
-    public ResponseEntity<Object> getByOwnerId(long userId, int from, int size) {
+    public Mono<ResponseEntity<Object>> getByOwnerId(long userId, int from, int size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -53,9 +50,9 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> search(String text, Long userId, int from, int size) {
+    public Mono<ResponseEntity<Object>> search(String text, Long userId, int from, int size) {
         if (text.isBlank()) {
-            return ResponseEntity.ok(List.of());
+            return Mono.just(ResponseEntity.ok(List.of()));
         }
 
         Map<String, Object> parameters = Map.of(
@@ -66,12 +63,12 @@ public class ItemClient extends BaseClient {
         return get("/search?text={text}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> update(long userId, long id, ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> update(long userId, long id, ItemDto itemDto) {
 
         return patch("/" + id, userId, itemDto);
     }
 
-    public void deleteItem(long id) {
-        delete("/" + id);
+    public Mono<Void> deleteItem(long id) {
+        return delete("/" + id).then();
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ public final class Constants {
     public static final String HEADER_USER_ID = "X-Sharer-User-Id";
     public static final String PAGE_DEFAULT_FROM = "0";
     public static final String PAGE_DEFAULT_SIZE = "10";
+    public static final int BATCH_MAX_SIZE = 1000;
     public static final String HEADER_SERVER_URL = "${shareit-server.url}";
 
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.markers.Constants;
 import ru.practicum.shareit.request.client.ItemRequestClient;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
@@ -21,30 +23,32 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> add(
+    public Mono<ResponseEntity<Object>> add(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @Valid @RequestBody ItemRequestDto itemRequestDto) {
         return itemRequestClient.add(userId, itemRequestDto);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(
+    public Mono<ResponseEntity<Object>> getById(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
-            @PathVariable Long id) {
-        return itemRequestClient.getById(userId, id);
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return itemRequestClient.getById(userId, id, ifNoneMatch);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getByRequesterId(
+    public Mono<ResponseEntity<Object>> getByRequesterId(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId) {
         return itemRequestClient.getByRequestorId(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAll(
+    public Mono<ResponseEntity<Object>> getAll(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size) {
-        return itemRequestClient.getAll(userId, from, size);
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return itemRequestClient.getAll(userId, from, size, ifNoneMatch);
     }
 }
\ No newline at end of file
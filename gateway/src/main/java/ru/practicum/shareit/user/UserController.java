@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.markers.Create;
 import ru.practicum.shareit.markers.Update;
 import ru.practicum.shareit.user.client.UserClient;
@@ -17,29 +18,29 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         return userClient.getAll();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(
+    public Mono<ResponseEntity<Object>> getById(
             @PathVariable Long id) {
         return userClient.getById(id);
     }
 
     @PostMapping
-    public ResponseEntity<Object> add(@Validated(Create.class) @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> add(@Validated(Create.class) @RequestBody UserDto userDto) {
         return userClient.add(userDto);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> update(@PathVariable Long id,
-                                         @Validated(Update.class) @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> update(@PathVariable Long id,
+                                               @Validated(Update.class) @RequestBody UserDto userDto) {
         return userClient.update(userDto, id);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) {
-        userClient.deleteUser(id);
+    public Mono<Void> delete(@PathVariable Long id) {
+        return userClient.deleteUser(id);
     }
 }
\ No newline at end of file
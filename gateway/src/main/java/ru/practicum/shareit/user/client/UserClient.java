@@ -1,52 +1,46 @@
 package ru.practicum.shareit.user.client;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
-import ru.practicum.shareit.markers.Constants;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ServerTransport;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.List;
+
 
 @Service
 public class UserClient extends BaseClient {
 
     private static final String API_PREFIX = "/users";
 
-    @Autowired
-    public UserClient(@Value(Constants.HEADER_SERVER_URL) String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public UserClient(ServerTransport transport, MeterRegistry meterRegistry, GatewayResponseCache responseCache) {
+        super(transport, meterRegistry, responseCache, API_PREFIX, List.of(API_PREFIX, "/items", "/bookings", "/requests"));
     }
 
-    public ResponseEntity<Object> add(UserDto userDto) {
+    public Mono<ResponseEntity<Object>> add(UserDto userDto) {
 
         return post("", userDto);
     }
 
-    public ResponseEntity<Object> getById(long id) {
+    public Mono<ResponseEntity<Object>> getById(long id) {
 
         return get("/" + id);
     }
 
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         return get("");
     }
 
-    public ResponseEntity<Object> update(UserDto userDto, long id) {
+    public Mono<ResponseEntity<Object>> update(UserDto userDto, long id) {
 
         return patch("/" + id, userDto);
     }
 
-    public void deleteUser(long id) {
-        delete("/" + id);
+    public Mono<Void> deleteUser(long id) {
+        return delete("/" + id).then();
     }
 }
\ No newline at end of file
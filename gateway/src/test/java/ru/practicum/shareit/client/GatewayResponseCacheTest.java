@@ -0,0 +1,155 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.client.BookingClient;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.item.client.ItemClient;
+import ru.practicum.shareit.request.client.ItemRequestClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.client.UserClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayResponseCacheTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountingTransport transport = new CountingTransport();
+    private final GatewayResponseCache responseCache = new GatewayResponseCache(new ResponseCacheProperties(), meterRegistry);
+    private final UserClient userClient = new UserClient(transport, meterRegistry, responseCache);
+    private final ItemClient itemClient = new ItemClient(transport, meterRegistry, responseCache);
+    private final ItemRequestClient requestClient = new ItemRequestClient(transport, meterRegistry, responseCache);
+    private final BookingClient bookingClient = new BookingClient(transport, meterRegistry, responseCache);
+
+    @Test
+    void repeatedReadsAreServedFromTheCachePerUser() {
+        itemClient.getById(1, 10, null).block();
+        itemClient.getById(1, 10, null).block();
+        assertThat(transport.calls("GET /items/10")).isEqualTo(1);
+
+        itemClient.getById(2, 10, null).block();
+        assertThat(transport.calls("GET /items/10")).isEqualTo(2);
+    }
+
+    @Test
+    void writesInvalidateTheirRegionsOnly() {
+        itemClient.getById(1, 10, null).block();
+        userClient.getById(1).block();
+
+        requestClient.add(1, new ItemRequestDto()).block();
+        itemClient.getById(1, 10, null).block();
+        userClient.getById(1).block();
+        assertThat(transport.calls("GET /items/10")).isEqualTo(1);
+        assertThat(transport.calls("GET /users/1")).isEqualTo(1);
+
+        userClient.update(new UserDto(), 1).block();
+        itemClient.getById(1, 10, null).block();
+        userClient.getById(1).block();
+        assertThat(transport.calls("GET /items/10")).isEqualTo(2);
+        assertThat(transport.calls("GET /users/1")).isEqualTo(2);
+    }
+
+    @Test
+    void timeDependentBookingListsAreNotCached() {
+        String byBooker = "GET /bookings?state={state}&from={from}&size={size}";
+        String byOwner = "GET /bookings/owner?state={state}&size={size}&cursor={cursor}";
+        for (BookingState state : List.of(BookingState.CURRENT, BookingState.PAST, BookingState.FUTURE)) {
+            bookingClient.getAllByBookerId(1, state, 0, 10, null).block();
+            bookingClient.getAllByOwnerId(1, state, 0, 10, "next").block();
+        }
+        assertThat(transport.calls(byBooker)).isEqualTo(3);
+        assertThat(transport.calls(byOwner)).isEqualTo(3);
+
+        for (BookingState state : List.of(BookingState.CURRENT, BookingState.PAST, BookingState.FUTURE)) {
+            bookingClient.getAllByBookerId(1, state, 0, 10, null).block();
+            bookingClient.getAllByOwnerId(1, state, 0, 10, "next").block();
+        }
+        assertThat(transport.calls(byBooker)).isEqualTo(6);
+        assertThat(transport.calls(byOwner)).isEqualTo(6);
+
+        bookingClient.getAllByBookerId(1, BookingState.WAITING, 0, 10, null).block();
+        bookingClient.getAllByBookerId(1, BookingState.WAITING, 0, 10, null).block();
+        assertThat(transport.calls(byBooker)).isEqualTo(7);
+    }
+
+    @Test
+    void failedWritesInvalidateToo() {
+        itemClient.getById(1, 10, null).block();
+        transport.status = HttpStatus.CONFLICT;
+
+        itemClient.update(1, 10, null).block();
+        transport.status = HttpStatus.OK;
+        itemClient.getById(1, 10, null).block();
+
+        assertThat(transport.calls("GET /items/10")).isEqualTo(2);
+    }
+
+    @Test
+    void matchingEntityTagIsAnsweredWithNotModified() {
+        ResponseEntity<Object> first = itemClient.getById(1, 10, null).block();
+        String etag = first.getHeaders().getETag();
+
+        ResponseEntity<Object> weak = itemClient.getById(1, 10, "\"other\", W/" + etag).block();
+        ResponseEntity<Object> stale = itemClient.getById(1, 10, "\"other\"").block();
+
+        assertThat(weak.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(weak.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(weak.hasBody()).isFalse();
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(transport.calls("GET /items/10")).isEqualTo(1);
+    }
+
+    @Test
+    void onlySuccessfulResponsesAreCached() {
+        transport.status = HttpStatus.NOT_FOUND;
+
+        itemClient.getById(1, 10, null).block();
+        itemClient.getById(1, 10, null).block();
+
+        assertThat(transport.calls("GET /items/10")).isEqualTo(2);
+    }
+
+    @Test
+    void disabledCacheForwardsEveryRead() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(false);
+        ItemClient uncached = new ItemClient(transport, meterRegistry, new GatewayResponseCache(properties, meterRegistry));
+
+        uncached.getById(1, 10, null).block();
+        uncached.getById(1, 10, null).block();
+
+        assertThat(transport.calls("GET /items/10")).isEqualTo(2);
+    }
+
+    static class CountingTransport implements ServerTransport {
+        final Map<String, Integer> calls = new ConcurrentHashMap<>();
+        volatile HttpStatus status = HttpStatus.OK;
+
+        @Override
+        public <T> Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                                         @Nullable Map<String, Object> parameters) {
+            return Mono.fromSupplier(() -> {
+                int call = calls.merge(method + " " + path, 1, Integer::sum);
+                return ResponseEntity.status(status)
+                        .header(HttpHeaders.ETAG, "\"" + path.hashCode() + "-" + call + "\"")
+                        .body((Object) Map.of("path", path));
+            });
+        }
+
+        int calls(String request) {
+            return calls.getOrDefault(request, 0);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LatencyRecorder {
+    private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        statsByEndpoint.computeIfAbsent(endpoint, key -> new EndpointStats()).record(latencyNanos, success);
+    }
+
+    public void print(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf("%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        EndpointStats total = new EndpointStats();
+        new TreeMap<>(statsByEndpoint).forEach((endpoint, stats) -> {
+            printRow(out, endpoint, stats, seconds);
+            total.merge(stats);
+        });
+        printRow(out, "TOTAL", total, seconds);
+    }
+
+    private static void printRow(PrintStream out, String endpoint, EndpointStats stats, double seconds) {
+        long[] latencies = stats.sortedLatencies();
+        out.printf("%-28s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint,
+                latencies.length,
+                stats.errors(),
+                latencies.length / seconds,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.95),
+                percentile(latencies, 0.99),
+                percentile(latencies, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(rank, 0)] / 1e6;
+    }
+
+    private static final class EndpointStats {
+        private long[] latencies = new long[256];
+        private int count;
+        private long errors;
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized void merge(EndpointStats other) {
+            long[] otherLatencies = other.sortedLatencies();
+            for (long latency : otherLatencies) {
+                record(latency, true);
+            }
+            errors += other.errors();
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.loadtest;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class LoadTest {
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        LatencyRecorder recorder = new LatencyRecorder();
+        ShareItApi api = new ShareItApi(config, recorder);
+        Semaphore inFlight = new Semaphore(config.getConcurrency());
+        AtomicLong started = new AtomicLong();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        Set<String> errors = ConcurrentHashMap.newKeySet();
+
+        System.out.println("Нагрузочный тест: " + config);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getRate());
+        long startedAt = System.nanoTime();
+        scheduler.scheduleAtFixedRate(() -> {
+            if (!inFlight.tryAcquire()) {
+                dropped.incrementAndGet();
+                return;
+            }
+            started.incrementAndGet();
+            new Scenario(api, config.getBookingLead()).run().whenComplete((ignored, error) -> {
+                inFlight.release();
+                if (error == null) {
+                    completed.incrementAndGet();
+                    return;
+                }
+                failed.incrementAndGet();
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(String.valueOf(error.getCause() != null ? error.getCause().getMessage() : error));
+                }
+            });
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+        Thread.sleep(config.getDuration().toMillis());
+        scheduler.shutdownNow();
+        if (!inFlight.tryAcquire(config.getConcurrency(), config.getRequestTimeout().toSeconds() * 2, TimeUnit.SECONDS)) {
+            System.out.println("Не дождались завершения всех сценариев.");
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        System.out.printf("Сценариев: запущено %d, завершено %d, с ошибкой %d, отброшено %d за %.1f с%n",
+                started.get(), completed.get(), failed.get(), dropped.get(), elapsed.toMillis() / 1000.0);
+        recorder.print(System.out, elapsed);
+        errors.forEach(error -> System.out.println("Ошибка: " + error));
+    }
+}
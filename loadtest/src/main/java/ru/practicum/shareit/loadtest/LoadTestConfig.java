@@ -0,0 +1,69 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class LoadTestConfig {
+    private final URI baseUrl;
+    private final double rate;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration requestTimeout;
+    private final Duration bookingLead;
+
+    private LoadTestConfig(Map<String, String> options) {
+        baseUrl = URI.create(options.getOrDefault("base-url", "http://localhost:8080"));
+        rate = Double.parseDouble(options.getOrDefault("rate", "10"));
+        concurrency = Integer.parseInt(options.getOrDefault("concurrency", "50"));
+        duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        requestTimeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("request-timeout", "30")));
+        bookingLead = Duration.ofSeconds(Long.parseLong(options.getOrDefault("booking-lead", "5")));
+        if (rate <= 0 || concurrency <= 0 || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("rate, concurrency и duration должны быть положительными.");
+        }
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Ожидался аргумент вида --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(options);
+    }
+
+    public URI getBaseUrl() {
+        return baseUrl;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public Duration getBookingLead() {
+        return bookingLead;
+    }
+
+    @Override
+    public String toString() {
+        return "base-url=" + baseUrl + ", rate=" + rate + "/s, concurrency=" + concurrency
+                + ", duration=" + duration.toSeconds() + "s";
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class Scenario {
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String SEARCH_PATH = "/items/search?from=0&size=10&text="
+            + URLEncoder.encode("дрель", StandardCharsets.UTF_8);
+
+    private final ShareItApi api;
+    private final Duration bookingLead;
+    private final long number = SEQUENCE.incrementAndGet();
+
+    public Scenario(ShareItApi api, Duration bookingLead) {
+        this.api = api;
+        this.bookingLead = bookingLead;
+    }
+
+    public CompletableFuture<Void> run() {
+        return addUser("owner").thenCombine(addUser("booker"), Users::new)
+                .thenCompose(users -> api.post("POST /items", "/items", users.owner, Map.of(
+                                "name", "Дрель " + number,
+                                "description", "Ударная дрель для нагрузочного теста",
+                                "available", true))
+                        .thenCompose(item -> browse(users, item.get("id").asLong())));
+    }
+
+    private CompletableFuture<Long> addUser(String role) {
+        return api.post("POST /users", "/users", null, Map.of(
+                        "name", role + " " + number,
+                        "email", role + "-" + RUN_ID + "-" + number + "@load.test"))
+                .thenApply(user -> user.get("id").asLong());
+    }
+
+    private CompletableFuture<Void> browse(Users users, long itemId) {
+        return api.get("GET /items/{id}", "/items/" + itemId, users.booker)
+                .thenCompose(ignored -> api.get("GET /items/search", SEARCH_PATH, users.booker))
+                .thenCompose(ignored -> api.post("POST /requests", "/requests", users.booker, Map.of(
+                        "description", "Нужна дрель " + number)))
+                .thenCompose(ignored -> api.get("GET /requests", "/requests", users.booker))
+                .thenCompose(ignored -> api.get("GET /requests/all", "/requests/all?from=0&size=10", users.owner))
+                .thenCompose(ignored -> book(users, itemId));
+    }
+
+    private CompletableFuture<Void> book(Users users, long itemId) {
+        LocalDateTime start = LocalDateTime.now().plus(bookingLead);
+        LocalDateTime end = start.plusSeconds(1);
+        return api.post("POST /bookings", "/bookings", users.booker, Map.of(
+                        "itemId", itemId,
+                        "start", DATE_TIME.format(start),
+                        "end", DATE_TIME.format(end)))
+                .thenApply(booking -> booking.get("id").asLong())
+                .thenCompose(bookingId -> api.patch("PATCH /bookings/{id}",
+                                "/bookings/" + bookingId + "?approved=true", users.owner)
+                        .thenCompose(ignored -> api.get("GET /bookings/{id}", "/bookings/" + bookingId, users.booker)))
+                .thenCompose(ignored -> api.get("GET /bookings", "/bookings?state=ALL", users.booker))
+                .thenCompose(ignored -> api.get("GET /bookings/owner", "/bookings/owner?state=ALL", users.owner))
+                .thenComposeAsync(ignored -> comment(users, itemId), CompletableFuture.delayedExecutor(
+                        Math.max(Duration.between(LocalDateTime.now(), end).toMillis(), 0) + 500,
+                        TimeUnit.MILLISECONDS));
+    }
+
+    private CompletableFuture<Void> comment(Users users, long itemId) {
+        return api.post("POST /items/{id}/comment", "/items/" + itemId + "/comment", users.booker, Map.of(
+                        "text", "Отличная дрель " + number))
+                .thenCompose(ignored -> api.get("GET /items", "/items?from=0&size=10", users.owner))
+                .thenCompose(ignored -> api.get("GET /items/{id}", "/items/" + itemId, users.owner))
+                .thenAccept(Scenario::ignore);
+    }
+
+    private static void ignore(JsonNode node) {
+    }
+
+    private static final class Users {
+        private final long owner;
+        private final long booker;
+
+        private Users(long owner, long booker) {
+            this.owner = owner;
+            this.booker = booker;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class ShareItApi {
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final URI baseUrl;
+    private final Duration requestTimeout;
+    private final LatencyRecorder recorder;
+
+    public ShareItApi(LoadTestConfig config, LatencyRecorder recorder) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.getRequestTimeout())
+                .build();
+        this.baseUrl = config.getBaseUrl();
+        this.requestTimeout = config.getRequestTimeout();
+        this.recorder = recorder;
+    }
+
+    public CompletableFuture<JsonNode> get(String endpoint, String path, long userId) {
+        return send(endpoint, "GET", path, userId, null);
+    }
+
+    public CompletableFuture<JsonNode> post(String endpoint, String path, Long userId, Object body) {
+        return send(endpoint, "POST", path, userId, body);
+    }
+
+    public CompletableFuture<JsonNode> patch(String endpoint, String path, long userId) {
+        return send(endpoint, "PATCH", path, userId, null);
+    }
+
+    private CompletableFuture<JsonNode> send(String endpoint, String method, String path, Long userId, Object body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(toJson(body)));
+        if (userId != null) {
+            request.header(HEADER_USER_ID, String.valueOf(userId));
+        }
+        long startedAt = System.nanoTime();
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    long latency = System.nanoTime() - startedAt;
+                    boolean success = error == null && response.statusCode() / 100 == 2;
+                    recorder.record(endpoint, latency, success);
+                    if (error != null) {
+                        throw new CompletionException(endpoint + " -> " + error, error);
+                    }
+                    if (!success) {
+                        throw new CompletionException(new IllegalStateException(
+                                endpoint + " -> " + response.statusCode() + ": " + response.body()));
+                    }
+                    return readJson(response.body());
+                });
+    }
+
+    private String toJson(Object body) {
+        try {
+            return mapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode readJson(String body) {
+        if (body == null || body.isBlank()) {
+            return mapper.missingNode();
+        }
+        try {
+            return mapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
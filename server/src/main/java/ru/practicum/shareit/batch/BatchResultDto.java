@@ -0,0 +1,25 @@
+package ru.practicum.shareit.batch;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BatchResultDto<T> {
+    int index;
+    T result;
+    String error;
+
+    public static <T> BatchResultDto<T> created(int index, T result) {
+        return BatchResultDto.<T>builder().index(index).result(result).build();
+    }
+
+    public static <T> BatchResultDto<T> failed(int index, String error) {
+        return BatchResultDto.<T>builder().index(index).error(error).build();
+    }
+}
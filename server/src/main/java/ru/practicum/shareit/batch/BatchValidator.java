@@ -0,0 +1,29 @@
+package ru.practicum.shareit.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class BatchValidator {
+    private final Validator validator;
+
+    public String validate(Object element, Class<?>... groups) {
+        if (element == null) {
+            return "Пустой элемент пакета.";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(element, groups);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
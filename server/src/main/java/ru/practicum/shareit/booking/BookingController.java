@@ -2,17 +2,28 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.BatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.OwnerBookingSummaryDto;
+import ru.practicum.shareit.booking.enums.ExportFormat;
 import ru.practicum.shareit.booking.enums.State;
+import ru.practicum.shareit.booking.service.BookingExport;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.markers.Constants;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.io.IOException;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -23,14 +34,39 @@ public class BookingController {
     private final BookingService bookingService;
 
     @GetMapping("/owner")
-    public List<BookingResponseDto> getAllByOwnerId(
+    public ResponseEntity<List<BookingResponseDto>> getAllByOwnerId(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM, required = false) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE, required = false) @Positive Integer size) {
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE, required = false) @Positive Integer size,
+            @RequestParam(required = false) String cursor) {
         State stateEnum = State.stringToState(state).orElseThrow(
                 () -> new IllegalArgumentException("Unknown state: " + state));
-        return bookingService.getAllByOwnerId(userId, stateEnum, PageRequest.of(from / size, size));
+        if (cursor == null) {
+            return ResponseEntity.ok(bookingService.getAllByOwnerId(userId, stateEnum, PageRequest.of(from / size, size)));
+        }
+        return toResponse(bookingService.getPageByOwnerId(userId, stateEnum, BookingCursor.decode(cursor), size));
+    }
+
+    @GetMapping("/owner/summary")
+    public OwnerBookingSummaryDto getSummaryByOwnerId(@RequestHeader(Constants.HEADER_USER_ID) Long userId) {
+        return bookingService.getSummaryByOwnerId(userId);
+    }
+
+    @GetMapping("/owner/export")
+    public void exportByOwnerId(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                @RequestParam(defaultValue = "ndjson") String format,
+                                HttpServletResponse response) throws IOException {
+        ExportFormat formatEnum = toFormat(format);
+        write(bookingService.exportByOwnerId(userId, formatEnum), formatEnum, response);
+    }
+
+    @GetMapping("/export")
+    public void exportByBookerId(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                 @RequestParam(defaultValue = "ndjson") String format,
+                                 HttpServletResponse response) throws IOException {
+        ExportFormat formatEnum = toFormat(format);
+        write(bookingService.exportByBookerId(userId, formatEnum), formatEnum, response);
     }
 
     @GetMapping("/{id}")
@@ -40,14 +76,18 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingResponseDto> getAllByBookerId(
+    public ResponseEntity<List<BookingResponseDto>> getAllByBookerId(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size) {
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size,
+            @RequestParam(required = false) String cursor) {
         State stateEnum = State.stringToState(state).orElseThrow(
                 () -> new IllegalArgumentException("Unknown state: " + state));
-        return bookingService.getAllByBookerId(userId, stateEnum, PageRequest.of(from / size, size));
+        if (cursor == null) {
+            return ResponseEntity.ok(bookingService.getAllByBookerId(userId, stateEnum, PageRequest.of(from / size, size)));
+        }
+        return toResponse(bookingService.getPageByBookerId(userId, stateEnum, BookingCursor.decode(cursor), size));
     }
 
     @PostMapping
@@ -56,10 +96,39 @@ public class BookingController {
         return bookingService.add(userId, bookingRequestDto);
     }
 
+    @PostMapping("/batch")
+    public List<BatchResultDto<BookingResponseDto>> addBatch(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                                             @RequestBody List<BookingRequestDto> bookingRequestDtos) {
+        return bookingService.addBatch(userId, bookingRequestDtos);
+    }
+
     @PatchMapping("/{id}")
     public BookingResponseDto update(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
                                      @PathVariable Long id,
                                      @RequestParam() Boolean approved) {
         return bookingService.update(userId, id, approved);
     }
+
+    private static ExportFormat toFormat(String format) {
+        return ExportFormat.stringToFormat(format).orElseThrow(
+                () -> new IllegalArgumentException("Unknown format: " + format));
+    }
+
+    private static void write(BookingExport export, ExportFormat format, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("bookings." + format.name().toLowerCase())
+                .build()
+                .toString());
+        export.writeTo(response.getOutputStream());
+    }
+
+    private static ResponseEntity<List<BookingResponseDto>> toResponse(BookingPageDto page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(Constants.HEADER_NEXT_CURSOR, page.getNextCursor());
+        }
+        return response.body(page.getBookings());
+    }
 }
\ No newline at end of file
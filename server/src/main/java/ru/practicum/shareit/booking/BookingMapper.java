@@ -2,10 +2,13 @@ package ru.practicum.shareit.booking;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import ru.practicum.shareit.booking.dto.BookingEventDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.OwnerBookingSummaryDto;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.OwnerBookingSummary;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.mapper.UserMapper;
@@ -19,4 +22,11 @@ public interface BookingMapper {
     Booking requestDtoToBooking(BookingRequestDto bookingRequestDto, Item item, User user, Status status);
 
     BookingResponseDto bookingToBookingResponseDto(Booking booking);
+
+    @Mapping(target = "itemId", expression = "java(booking.getItem().getId())")
+    @Mapping(target = "ownerId", expression = "java(booking.getItem().getOwner().getId())")
+    @Mapping(target = "bookerId", expression = "java(booking.getBooker().getId())")
+    BookingEventDto bookingToBookingEventDto(Booking booking);
+
+    OwnerBookingSummaryDto summaryToOwnerBookingSummaryDto(OwnerBookingSummary summary);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.booking.enums.Status;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@JsonPropertyOrder({"id", "start", "end", "status", "itemId", "itemName", "bookerId", "bookerName"})
+public class BookingExportDto {
+    Long id;
+    LocalDateTime start;
+    LocalDateTime end;
+    Status status;
+    Long itemId;
+    String itemName;
+    Long bookerId;
+    String bookerName;
+}
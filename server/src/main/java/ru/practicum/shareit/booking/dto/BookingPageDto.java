@@ -0,0 +1,16 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingPageDto {
+    List<BookingResponseDto> bookings;
+    String nextCursor;
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OwnerBookingSummaryDto {
+    long waiting;
+    long approved;
+    long rejected;
+    long upcoming;
+    long current;
+}
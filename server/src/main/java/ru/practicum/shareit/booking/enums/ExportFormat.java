@@ -0,0 +1,30 @@
+package ru.practicum.shareit.booking.enums;
+
+import org.springframework.http.MediaType;
+
+import java.util.Optional;
+
+public enum ExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final MediaType mediaType;
+
+    ExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static Optional<ExportFormat> stringToFormat(String format) {
+        for (ExportFormat value : ExportFormat.values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -20,10 +20,15 @@ import java.util.Objects;
 @AllArgsConstructor
 @Builder
 @Table(name = "bookings", schema = "public")
+@NamedEntityGraph(name = Booking.GRAPH_ITEM_AND_BOOKER,
+        attributeNodes = {@NamedAttributeNode("item"), @NamedAttributeNode("booker")})
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Booking {
+    public static final String GRAPH_ITEM_AND_BOOKER = "Booking.itemAndBooker";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     Long id;
 
     @Column(name = "start_date", nullable = false)
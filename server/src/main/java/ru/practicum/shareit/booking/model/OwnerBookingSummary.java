@@ -0,0 +1,56 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "owner_booking_summary", schema = "public")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OwnerBookingSummary {
+    @Id
+    @Column(name = "owner_id")
+    Long ownerId;
+
+    @Column(name = "waiting_count", nullable = false)
+    long waiting;
+
+    @Column(name = "approved_count", nullable = false)
+    long approved;
+
+    @Column(name = "rejected_count", nullable = false)
+    long rejected;
+
+    @Column(name = "upcoming_count", nullable = false)
+    long upcoming;
+
+    @Column(name = "current_count", nullable = false)
+    long current;
+
+    @Column(name = "reconciled", nullable = false)
+    LocalDateTime reconciled;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OwnerBookingSummary)) return false;
+        return ownerId != null && ownerId.equals(((OwnerBookingSummary) o).getOwnerId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(ownerId);
+    }
+}
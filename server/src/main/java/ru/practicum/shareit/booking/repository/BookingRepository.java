@@ -2,49 +2,201 @@ package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingExportDto;
+import ru.practicum.shareit.booking.dto.BookingIntervalDto;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.model.Booking;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    String KEYSET_CONDITION = "(b.start < :cursorStart OR (b.start = :cursorStart AND b.id < :cursorId)) ";
+    String KEYSET_ORDER = "ORDER BY b.start DESC, b.id DESC";
+    String EXPORT_COLUMNS = "new ru.practicum.shareit.booking.dto.BookingExportDto(" +
+            "b.id, b.start, b.end, b.status, i.id, i.name, u.id, u.name) ";
+    String EXPORT_FETCH_SIZE = "500";
+
+    @Override
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    Optional<Booking> findById(Long id);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByBookerIdOrderByStartDesc(Long booker, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime start,
                                                                           LocalDateTime end, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByBookerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(Long userId, LocalDateTime start,
                                                                             Status status, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByBookerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime start, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByBookerIdAndStatusEqualsOrderByStartDesc(Long userId, Status status, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByItemOwnerIdOrderByStartDesc(Long booker, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime start,
                                                                              LocalDateTime end, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByItemOwnerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(Long userId, LocalDateTime start,
                                                                                Status status, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByItemOwnerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime start, Pageable pageable);
 
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
     Page<Booking> findByItemOwnerIdAndStatusEqualsOrderByStartDesc(Long userId, Status status, Pageable pageable);
 
-    List<Booking> findByItemIdAndStartBeforeAndStatusEqualsOrderByStartDesc(Long userId, LocalDateTime start, Status status);
-
-    List<Booking> findByItemIdAndStartAfterAndStatusEqualsOrderByStartAsc(Long userId, LocalDateTime start, Status status);
-
-    List<Booking> findByItemIdAndStartBeforeAndEndAfterAndStatusEqualsOrderByStartAsc(Long userId, LocalDateTime start, LocalDateTime end, Status status);
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :userId AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findPageByBookerId(@Param("userId") Long userId, @Param("cursorStart") LocalDateTime cursorStart,
+                                     @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :userId AND b.start < :now AND b.end > :now AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findCurrentPageByBookerId(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                                            @Param("cursorStart") LocalDateTime cursorStart,
+                                            @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :userId AND b.end < :now AND b.status = :status AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findPastPageByBookerId(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                                         @Param("status") Status status,
+                                         @Param("cursorStart") LocalDateTime cursorStart,
+                                         @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :userId AND b.start > :now AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findFuturePageByBookerId(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                                           @Param("cursorStart") LocalDateTime cursorStart,
+                                           @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :userId AND b.status = :status AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findPageByBookerIdAndStatus(@Param("userId") Long userId, @Param("status") Status status,
+                                              @Param("cursorStart") LocalDateTime cursorStart,
+                                              @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.owner.id = :userId AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findPageByItemOwnerId(@Param("userId") Long userId, @Param("cursorStart") LocalDateTime cursorStart,
+                                        @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.owner.id = :userId AND b.start < :now AND b.end > :now AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findCurrentPageByItemOwnerId(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                                               @Param("cursorStart") LocalDateTime cursorStart,
+                                               @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.owner.id = :userId AND b.end < :now AND b.status = :status AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findPastPageByItemOwnerId(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                                            @Param("status") Status status,
+                                            @Param("cursorStart") LocalDateTime cursorStart,
+                                            @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.owner.id = :userId AND b.start > :now AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findFuturePageByItemOwnerId(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                                              @Param("cursorStart") LocalDateTime cursorStart,
+                                              @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @EntityGraph(Booking.GRAPH_ITEM_AND_BOOKER)
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.item.owner.id = :userId AND b.status = :status AND " + KEYSET_CONDITION + KEYSET_ORDER)
+    List<Booking> findPageByItemOwnerIdAndStatus(@Param("userId") Long userId, @Param("status") Status status,
+                                                 @Param("cursorStart") LocalDateTime cursorStart,
+                                                 @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query(value = "SELECT * FROM (" +
+            "SELECT b.*, ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start_date DESC, b.id DESC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) AND b.status = :status AND b.start_date < :now) ranked " +
+            "WHERE ranked.rn = 1", nativeQuery = true)
+    List<Booking> findLastByItemIdIn(@Param("itemIds") Collection<Long> itemIds, @Param("status") String status,
+                                     @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT * FROM (" +
+            "SELECT b.*, ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start_date ASC, b.id ASC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) AND b.status = :status AND b.start_date > :now) ranked " +
+            "WHERE ranked.rn = 1", nativeQuery = true)
+    List<Booking> findNextByItemIdIn(@Param("itemIds") Collection<Long> itemIds, @Param("status") String status,
+                                     @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status WHERE b.id = :id AND b.status = :expected")
+    int updateStatus(@Param("id") Long id, @Param("expected") Status expected, @Param("status") Status status);
+
+    boolean existsByItemIdAndIdNotAndStatusAndStartBeforeAndEndAfter(Long itemId, Long id, Status status,
+                                                                     LocalDateTime end, LocalDateTime start);
+
+    boolean existsByItemIdAndStatusAndStartBeforeAndEndAfter(Long itemId, Status status, LocalDateTime end,
+                                                             LocalDateTime start);
 
     List<Booking> findByItemIdAndBookerIdAndEndIsBeforeAndStatusEquals(Long id, Long userId, LocalDateTime end, Status status);
 
-    List<Booking> findByItemIdIn(List<Long> itemIds);
-
     List<Booking> findByItemId(Long id);
 
-    List<Booking> findByItemIdAndStartAfterAndEndBeforeAndStatusEqualsOrderByStartAsc(Long id, LocalDateTime start, LocalDateTime end, Status status);
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.start AS start, b.end AS end " +
+            "FROM Booking b " +
+            "WHERE b.status = ?1")
+    List<BookingIntervalDto> findIntervalsByStatus(Status status);
+
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.start AS start, b.end AS end " +
+            "FROM Booking b " +
+            "WHERE b.item.id IN ?1 AND b.status = ?2")
+    List<BookingIntervalDto> findIntervalsByItemIdInAndStatus(Collection<Long> itemIds, Status status);
+
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.start AS start, b.end AS end " +
+            "FROM Booking b " +
+            "WHERE b.item.id IN ?1 AND b.status = ?2 AND b.start < ?3 AND b.end > ?4")
+    List<BookingIntervalDto> findIntervalsByItemIdInAndStatusWithin(Collection<Long> itemIds, Status status,
+                                                                    LocalDateTime end, LocalDateTime start);
+
+    @Query("SELECT DISTINCT b.item.id " +
+            "FROM Booking b " +
+            "WHERE (b.booker.id = ?1 OR b.item.owner.id = ?1) AND b.status = ?2")
+    List<Long> findItemIdsByParticipantAndStatus(Long userId, Status status);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT " + EXPORT_COLUMNS +
+            "FROM Booking b JOIN b.item i JOIN b.booker u " +
+            "WHERE u.id = ?1 " + KEYSET_ORDER)
+    Stream<BookingExportDto> streamByBookerId(Long userId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT " + EXPORT_COLUMNS +
+            "FROM Booking b JOIN b.item i JOIN b.booker u " +
+            "WHERE i.owner.id = ?1 " + KEYSET_ORDER)
+    Stream<BookingExportDto> streamByItemOwnerId(Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.booking.model.OwnerBookingSummary;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+
+import static org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES;
+
+public interface OwnerBookingSummaryRepository extends JpaRepository<OwnerBookingSummary, Long> {
+
+    @Modifying
+    @Query("update OwnerBookingSummary s set s.waiting = s.waiting + :waiting, s.approved = s.approved + :approved, "
+            + "s.rejected = s.rejected + :rejected, s.upcoming = s.upcoming + :upcoming, "
+            + "s.current = s.current + :current where s.ownerId = :ownerId")
+    int increment(Long ownerId, long waiting, long approved, long rejected, long upcoming, long current);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "owner_booking_summary"))
+    @Query(value = "INSERT INTO owner_booking_summary (owner_id, waiting_count, approved_count, rejected_count, " +
+            "upcoming_count, current_count, reconciled) " +
+            "SELECT :ownerId, :waiting, :approved, :rejected, :upcoming, :current, :reconciled " +
+            "WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = :ownerId)", nativeQuery = true)
+    int insertIfOwnerExists(Long ownerId, long waiting, long approved, long rejected, long upcoming, long current,
+                            LocalDateTime reconciled);
+
+    @Modifying
+    @Query("insert into OwnerBookingSummary (ownerId, waiting, approved, rejected, upcoming, current, reconciled) "
+            + "select i.owner.id, "
+            + "sum(case when b.status = ru.practicum.shareit.booking.enums.Status.WAITING then 1L else 0L end), "
+            + "sum(case when b.status = ru.practicum.shareit.booking.enums.Status.APPROVED then 1L else 0L end), "
+            + "sum(case when b.status = ru.practicum.shareit.booking.enums.Status.REJECTED then 1L else 0L end), "
+            + "sum(case when b.start > :now then 1L else 0L end), "
+            + "sum(case when b.start < :now and b.end > :now then 1L else 0L end), "
+            + ":now "
+            + "from Booking b join b.item i group by i.owner.id")
+    int insertRecalculated(LocalDateTime now);
+}
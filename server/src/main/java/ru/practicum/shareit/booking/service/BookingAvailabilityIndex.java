@@ -0,0 +1,81 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingIntervalDto;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingAvailabilityIndex {
+    private final BookingRepository bookingRepository;
+    private final Map<Long, BookingIntervalTree> treesByItem = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        treesByItem.clear();
+        List<BookingIntervalDto> intervals = bookingRepository.findIntervalsByStatus(Status.APPROVED);
+        intervals.forEach(this::insert);
+        log.info("Индекс занятости вещей построен: {} подтверждённых броней, {} вещей.",
+                intervals.size(), treesByItem.size());
+    }
+
+    public boolean isAvailable(Long itemId, LocalDateTime start, LocalDateTime end) {
+        BookingIntervalTree tree = treesByItem.get(itemId);
+        return tree == null || !tree.overlaps(start, end);
+    }
+
+    public void registerApproved(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        afterCommit(() -> treesByItem.computeIfAbsent(itemId, id -> new BookingIntervalTree())
+                .insert(booking.getId(), booking.getStart(), booking.getEnd()));
+    }
+
+    public void evictItem(Long itemId) {
+        afterCommit(() -> treesByItem.remove(itemId));
+    }
+
+    public void evictUser(Long userId) {
+        List<Long> itemIds = bookingRepository.findItemIdsByParticipantAndStatus(userId, Status.APPROVED);
+        afterCommit(() -> reload(itemIds));
+    }
+
+    private void reload(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        itemIds.forEach(treesByItem::remove);
+        bookingRepository.findIntervalsByItemIdInAndStatus(itemIds, Status.APPROVED).forEach(this::insert);
+    }
+
+    private void insert(BookingIntervalDto interval) {
+        treesByItem.computeIfAbsent(interval.getItemId(), id -> new BookingIntervalTree())
+                .insert(interval.getId(), interval.getStart(), interval.getEnd());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
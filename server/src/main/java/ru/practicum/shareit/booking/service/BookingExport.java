@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@FunctionalInterface
+public interface BookingExport {
+    void writeTo(OutputStream out) throws IOException;
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.booking.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingExportDto;
+import ru.practicum.shareit.booking.enums.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class BookingExportWriter {
+    private static final String CSV_HEADER = "id,start,end,status,itemId,itemName,bookerId,bookerName";
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BookingExportWriter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public BookingExport export(Supplier<Stream<BookingExportDto>> query, ExportFormat format) {
+        return out -> {
+            try {
+                long rows = readOnlyTransaction.execute(status -> {
+                    try (Stream<BookingExportDto> bookings = query.get()) {
+                        return format == ExportFormat.CSV
+                                ? writeCsv(bookings.iterator(), out)
+                                : writeNdjson(bookings.iterator(), out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                log.debug("Выгружено {} броней в формате {}.", rows, format);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private long writeNdjson(Iterator<BookingExportDto> bookings, OutputStream out) throws IOException {
+        long rows = 0;
+        ObjectWriter writer = objectMapper.writerFor(BookingExportDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null)) {
+            while (bookings.hasNext()) {
+                writer.writeValue(generator, bookings.next());
+                generator.writeRaw('\n');
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<BookingExportDto> bookings, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (bookings.hasNext()) {
+            BookingExportDto booking = bookings.next();
+            writer.write(String.join(",", csv(booking.getId()), csv(booking.getStart()), csv(booking.getEnd()),
+                    csv(booking.getStatus()), csv(booking.getItemId()), csv(booking.getItemName()),
+                    csv(booking.getBookerId()), csv(booking.getBookerName())));
+            writer.write('\n');
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private static String csv(Object field) {
+        if (field == null) {
+            return "";
+        }
+        String value = field instanceof LocalDateTime
+                ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) field)
+                : field.toString();
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.booking.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+class BookingIntervalTree {
+    private Node root;
+
+    synchronized void insert(long id, LocalDateTime start, LocalDateTime end) {
+        Node[] parts = split(root, start, id, false);
+        Node[] rest = split(parts[1], start, id, true);
+        root = merge(merge(parts[0], new Node(id, start, end)), rest[1]);
+    }
+
+    synchronized boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        Node node = root;
+        while (node != null) {
+            if (node.start.isBefore(end) && node.end.isAfter(start)) {
+                return true;
+            }
+            if (node.left != null && node.left.maxEnd.isAfter(start)) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return false;
+    }
+
+    private static Node[] split(Node node, LocalDateTime start, long id, boolean inclusive) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        int cmp = node.compareTo(start, id);
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            Node[] parts = split(node.right, start, id, inclusive);
+            node.right = parts[0];
+            node.update();
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, start, id, inclusive);
+        node.left = parts[1];
+        node.update();
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static final class Node {
+        final long id;
+        final LocalDateTime start;
+        final LocalDateTime end;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        LocalDateTime maxEnd;
+        Node left;
+        Node right;
+
+        Node(long id, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+
+        int compareTo(LocalDateTime otherStart, long otherId) {
+            int cmp = start.compareTo(otherStart);
+            return cmp != 0 ? cmp : Long.compare(id, otherId);
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.booking.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.outbox.DomainEvent;
+import ru.practicum.shareit.outbox.DomainEventListener;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class BookingNotificationListener implements DomainEventListener {
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            JsonNode booking = event.getPayload();
+            switch (event.getType()) {
+                case BOOKING_CREATED:
+                    log.info("Уведомление владельцу {}: запрос на бронирование {} вещи {}.",
+                            booking.path("ownerId").asLong(), event.getAggregateId(), booking.path("itemId").asLong());
+                    break;
+                case BOOKING_APPROVED:
+                    log.info("Уведомление пользователю {}: бронирование {} подтверждено.",
+                            booking.path("bookerId").asLong(), event.getAggregateId());
+                    break;
+                case BOOKING_REJECTED:
+                    log.info("Уведомление пользователю {}: бронирование {} отклонено.",
+                            booking.path("bookerId").asLong(), event.getAggregateId());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package ru.practicum.shareit.booking.service;
 
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.batch.BatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.OwnerBookingSummaryDto;
+import ru.practicum.shareit.booking.enums.ExportFormat;
 import ru.practicum.shareit.booking.enums.State;
 
 import java.util.List;
@@ -10,6 +15,8 @@ import java.util.List;
 public interface BookingService {
     BookingResponseDto add(Long userId, BookingRequestDto bookingRequestDto);
 
+    List<BatchResultDto<BookingResponseDto>> addBatch(Long userId, List<BookingRequestDto> bookingRequestDtos);
+
     BookingResponseDto update(Long userId, Long id, Boolean approved);
 
     BookingResponseDto getById(Long userId, Long id);
@@ -17,4 +24,14 @@ public interface BookingService {
     List<BookingResponseDto> getAllByBookerId(Long userId, State state, Pageable pageable);
 
     List<BookingResponseDto> getAllByOwnerId(Long userId, State state, Pageable pageable);
+
+    BookingPageDto getPageByBookerId(Long userId, State state, BookingCursor cursor, int size);
+
+    BookingPageDto getPageByOwnerId(Long userId, State state, BookingCursor cursor, int size);
+
+    BookingExport exportByBookerId(Long userId, ExportFormat format);
+
+    BookingExport exportByOwnerId(Long userId, ExportFormat format);
+
+    OwnerBookingSummaryDto getSummaryByOwnerId(Long userId);
 }
\ No newline at end of file
@@ -2,11 +2,19 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.batch.BatchResultDto;
+import ru.practicum.shareit.batch.BatchValidator;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.OwnerBookingSummaryDto;
+import ru.practicum.shareit.booking.enums.ExportFormat;
 import ru.practicum.shareit.booking.enums.State;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.BookingMapper;
@@ -17,11 +25,21 @@ import ru.practicum.shareit.exception.BookingException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.outbox.DomainEventPublisher;
+import ru.practicum.shareit.outbox.EventType;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,6 +51,12 @@ public class BookingServiceImpl implements BookingService {
     private final ItemService itemService;
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
+    private final BookingAvailabilityIndex bookingAvailabilityIndex;
+    private final ItemLockStripes itemLockStripes;
+    private final BatchValidator batchValidator;
+    private final BookingExportWriter bookingExportWriter;
+    private final DomainEventPublisher domainEventPublisher;
+    private final OwnerBookingSummaryService ownerBookingSummaryService;
 
     @Override
     @Transactional
@@ -48,13 +72,9 @@ public class BookingServiceImpl implements BookingService {
         if (!item.getAvailable()) {
             throw new BookingException("Предмет недоступен для брони.");
         }
-        Boolean findByItemIdAndStartBeforeAndEndAfterAndStatusEqualsOrderByStart = !bookingRepository.findByItemIdAndStartBeforeAndEndAfterAndStatusEqualsOrderByStartAsc(item.getId(),
-                bookingRequestDto.getStart(),
-                bookingRequestDto.getEnd(), Status.APPROVED).isEmpty();
-        Boolean findByItemIdAndStartAfterAndEndBeforeAndStatusEqualsOrderByStart = !bookingRepository.findByItemIdAndStartAfterAndEndBeforeAndStatusEqualsOrderByStartAsc(item.getId(),
-                bookingRequestDto.getStart(),
-                bookingRequestDto.getEnd(), Status.APPROVED).isEmpty();
-        if (findByItemIdAndStartBeforeAndEndAfterAndStatusEqualsOrderByStart || findByItemIdAndStartAfterAndEndBeforeAndStatusEqualsOrderByStart) {
+        if (!bookingAvailabilityIndex.isAvailable(item.getId(), bookingRequestDto.getStart(), bookingRequestDto.getEnd())
+                || bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item.getId(), Status.APPROVED,
+                bookingRequestDto.getEnd(), bookingRequestDto.getStart())) {
             throw new BookingException("Предмет недоступен для брони. В это время его еще кто-то использует!");
         }
 
@@ -63,8 +83,48 @@ public class BookingServiceImpl implements BookingService {
         if (userId.equals(item.getOwner().getId())) {
             throw new NotFoundException("Владелец не может бронировать.");
         }
-        Booking booking = bookingMapper.requestDtoToBooking(bookingRequestDto, item, user, Status.WAITING);
-        return bookingMapper.bookingToBookingResponseDto(bookingRepository.save(booking));
+        Booking booking = bookingRepository.save(
+                bookingMapper.requestDtoToBooking(bookingRequestDto, item, user, Status.WAITING));
+        publish(EventType.BOOKING_CREATED, booking);
+        return bookingMapper.bookingToBookingResponseDto(booking);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchResultDto<BookingResponseDto>> addBatch(Long userId, List<BookingRequestDto> bookingRequestDtos) {
+        User user = userService.getUserById(userId);
+        Map<Long, Item> itemsById = itemService.getItemsByIds(bookingRequestDtos.stream()
+                        .filter(Objects::nonNull)
+                        .map(BookingRequestDto::getItemId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<BatchResultDto<BookingResponseDto>> results = new ArrayList<>(bookingRequestDtos.size());
+        Map<Integer, Booking> bookingsByIndex = new LinkedHashMap<>();
+        for (int i = 0; i < bookingRequestDtos.size(); i++) {
+            BookingRequestDto bookingRequestDto = bookingRequestDtos.get(i);
+            String error = batchValidator.validate(bookingRequestDto);
+            if (error == null) {
+                error = validateBooking(userId, bookingRequestDto, itemsById.get(bookingRequestDto.getItemId()));
+            }
+            if (error != null) {
+                results.add(BatchResultDto.failed(i, error));
+                continue;
+            }
+            bookingsByIndex.put(i, bookingMapper.requestDtoToBooking(bookingRequestDto,
+                    itemsById.get(bookingRequestDto.getItemId()), user, Status.WAITING));
+        }
+        removeBooked(bookingsByIndex, results);
+
+        bookingRepository.saveAll(bookingsByIndex.values());
+        bookingsByIndex.forEach((index, booking) -> {
+            publish(EventType.BOOKING_CREATED, booking);
+            results.add(BatchResultDto.created(index, bookingMapper.bookingToBookingResponseDto(booking)));
+        });
+        results.sort(Comparator.comparingInt(BatchResultDto::getIndex));
+        return results;
     }
 
     @Override
@@ -77,8 +137,14 @@ public class BookingServiceImpl implements BookingService {
         if (!userId.equals(repoBooking.getItem().getOwner().getId())) {
             throw new NotFoundException("Изменение статуса брони доступно только владельцу.");
         }
-        repoBooking.setStatus(approved ? Status.APPROVED : Status.REJECTED);
-        return bookingMapper.bookingToBookingResponseDto(bookingRepository.save(repoBooking));
+        if (!approved) {
+            changeStatus(repoBooking, Status.REJECTED);
+            publish(EventType.BOOKING_REJECTED, repoBooking);
+            return bookingMapper.bookingToBookingResponseDto(repoBooking);
+        }
+        Booking approvedBooking = approve(repoBooking);
+        publish(EventType.BOOKING_APPROVED, approvedBooking);
+        return bookingMapper.bookingToBookingResponseDto(approvedBooking);
     }
 
     @Override
@@ -157,6 +223,175 @@ public class BookingServiceImpl implements BookingService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public BookingPageDto getPageByBookerId(Long userId, State state, BookingCursor cursor, int size) {
+        userService.getUserById(userId);
+        List<Booking> bookings = null;
+        LocalDateTime dateTime = LocalDateTime.now();
+        Pageable limit = PageRequest.of(0, size);
+
+        switch (state) {
+            case ALL:
+                bookings = bookingRepository.findPageByBookerId(userId, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case CURRENT:
+                bookings = bookingRepository.findCurrentPageByBookerId(
+                        userId, dateTime, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case PAST:
+                bookings = bookingRepository.findPastPageByBookerId(
+                        userId, dateTime, Status.APPROVED, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case FUTURE:
+                bookings = bookingRepository.findFuturePageByBookerId(
+                        userId, dateTime, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case WAITING:
+                bookings = bookingRepository.findPageByBookerIdAndStatus(
+                        userId, Status.WAITING, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case REJECTED:
+                bookings = bookingRepository.findPageByBookerIdAndStatus(
+                        userId, Status.REJECTED, cursor.getStart(), cursor.getId(), limit);
+        }
+
+        return toPage(bookings, size);
+    }
+
+    @Override
+    public BookingPageDto getPageByOwnerId(Long userId, State state, BookingCursor cursor, int size) {
+        userService.getUserById(userId);
+        List<Booking> bookings = null;
+        LocalDateTime dateTime = LocalDateTime.now();
+        Pageable limit = PageRequest.of(0, size);
+
+        switch (state) {
+            case ALL:
+                bookings = bookingRepository.findPageByItemOwnerId(userId, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case CURRENT:
+                bookings = bookingRepository.findCurrentPageByItemOwnerId(
+                        userId, dateTime, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case PAST:
+                bookings = bookingRepository.findPastPageByItemOwnerId(
+                        userId, dateTime, Status.APPROVED, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case FUTURE:
+                bookings = bookingRepository.findFuturePageByItemOwnerId(
+                        userId, dateTime, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case WAITING:
+                bookings = bookingRepository.findPageByItemOwnerIdAndStatus(
+                        userId, Status.WAITING, cursor.getStart(), cursor.getId(), limit);
+                break;
+            case REJECTED:
+                bookings = bookingRepository.findPageByItemOwnerIdAndStatus(
+                        userId, Status.REJECTED, cursor.getStart(), cursor.getId(), limit);
+        }
+
+        return toPage(bookings, size);
+    }
+
+    @Override
+    public BookingExport exportByBookerId(Long userId, ExportFormat format) {
+        userService.getUserById(userId);
+        return bookingExportWriter.export(() -> bookingRepository.streamByBookerId(userId), format);
+    }
+
+    @Override
+    public BookingExport exportByOwnerId(Long userId, ExportFormat format) {
+        userService.getUserById(userId);
+        return bookingExportWriter.export(() -> bookingRepository.streamByItemOwnerId(userId), format);
+    }
+
+    @Override
+    public OwnerBookingSummaryDto getSummaryByOwnerId(Long userId) {
+        userService.getUserById(userId);
+        return bookingMapper.summaryToOwnerBookingSummaryDto(ownerBookingSummaryService.getByOwnerId(userId));
+    }
+
+    private BookingPageDto toPage(List<Booking> bookings, int size) {
+        String nextCursor = bookings.size() < size ? null : BookingCursor.of(bookings.get(bookings.size() - 1)).encode();
+        return BookingPageDto.builder()
+                .bookings(bookings.stream()
+                        .map(bookingMapper::bookingToBookingResponseDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private void publish(EventType type, Booking booking) {
+        domainEventPublisher.publish(type, booking.getId(), bookingMapper.bookingToBookingEventDto(booking));
+    }
+
+    private Booking approve(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        itemLockStripes.lockUntilCompletion(itemId);
+        itemService.getItemByIdForUpdate(itemId);
+        if (bookingRepository.existsByItemIdAndIdNotAndStatusAndStartBeforeAndEndAfter(
+                itemId, booking.getId(), Status.APPROVED, booking.getEnd(), booking.getStart())) {
+            throw new BookingException("Предмет недоступен для брони. В это время его еще кто-то использует!");
+        }
+        try {
+            changeStatus(booking, Status.APPROVED);
+        } catch (DataIntegrityViolationException e) {
+            throw new BookingException("Предмет недоступен для брони. В это время его еще кто-то использует!");
+        }
+        bookingAvailabilityIndex.registerApproved(booking);
+        return booking;
+    }
+
+    private void changeStatus(Booking booking, Status status) {
+        if (bookingRepository.updateStatus(booking.getId(), Status.WAITING, status) == 0) {
+            throw new BookingException("Ответ по бронированию уже дан.");
+        }
+        booking.setStatus(status);
+    }
+
+    private void removeBooked(Map<Integer, Booking> bookingsByIndex, List<BatchResultDto<BookingResponseDto>> results) {
+        if (bookingsByIndex.isEmpty()) {
+            return;
+        }
+        Collection<Booking> bookings = bookingsByIndex.values();
+        Map<Long, BookingIntervalTree> approvedByItem = new HashMap<>();
+        bookingRepository.findIntervalsByItemIdInAndStatusWithin(
+                        bookings.stream().map(booking -> booking.getItem().getId()).collect(Collectors.toSet()),
+                        Status.APPROVED,
+                        bookings.stream().map(Booking::getEnd).max(Comparator.naturalOrder()).orElseThrow(),
+                        bookings.stream().map(Booking::getStart).min(Comparator.naturalOrder()).orElseThrow())
+                .forEach(interval -> approvedByItem.computeIfAbsent(interval.getItemId(),
+                        id -> new BookingIntervalTree()).insert(interval.getId(), interval.getStart(), interval.getEnd()));
+        bookingsByIndex.entrySet().removeIf(entry -> {
+            BookingIntervalTree approved = approvedByItem.get(entry.getValue().getItem().getId());
+            if (approved == null || !approved.overlaps(entry.getValue().getStart(), entry.getValue().getEnd())) {
+                return false;
+            }
+            results.add(BatchResultDto.failed(entry.getKey(),
+                    "Предмет недоступен для брони. В это время его еще кто-то использует!"));
+            return true;
+        });
+    }
+
+    private String validateBooking(Long userId, BookingRequestDto bookingRequestDto, Item item) {
+        if (!bookingRequestDto.getEnd().isAfter(bookingRequestDto.getStart())) {
+            return "Недопустимая бронь.";
+        }
+        if (item == null) {
+            return "Вещи не существует.";
+        }
+        if (!item.getAvailable()) {
+            return "Предмет недоступен для брони.";
+        }
+        if (!bookingAvailabilityIndex.isAvailable(item.getId(), bookingRequestDto.getStart(), bookingRequestDto.getEnd())) {
+            return "Предмет недоступен для брони. В это время его еще кто-то использует!";
+        }
+        if (userId.equals(item.getOwner().getId())) {
+            return "Владелец не может бронировать.";
+        }
+        return null;
+    }
+
     private Booking getBookingById(Long id) {
         return bookingRepository.findById(id).orElseThrow(() -> new NotFoundException("Бронь с таким id не существует."));
     }
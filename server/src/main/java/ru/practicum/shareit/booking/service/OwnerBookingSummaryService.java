@@ -0,0 +1,193 @@
+package ru.practicum.shareit.booking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingEventDto;
+import ru.practicum.shareit.booking.model.OwnerBookingSummary;
+import ru.practicum.shareit.booking.repository.OwnerBookingSummaryRepository;
+import ru.practicum.shareit.outbox.DomainEvent;
+import ru.practicum.shareit.outbox.DomainEventListener;
+import ru.practicum.shareit.outbox.EventType;
+import ru.practicum.shareit.outbox.OutboxEventRepository;
+import ru.practicum.shareit.outbox.OutboxProperties;
+import ru.practicum.shareit.task.TaskRunRepository;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class OwnerBookingSummaryService implements DomainEventListener {
+    private static final String RECONCILE_TASK = "booking-summary-reconcile";
+    private static final Set<EventType> BOOKING_EVENTS =
+            EnumSet.of(EventType.BOOKING_CREATED, EventType.BOOKING_APPROVED, EventType.BOOKING_REJECTED);
+
+    private final OwnerBookingSummaryRepository summaryRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties outboxProperties;
+    private final TaskRunRepository taskRunRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate claimTransaction;
+    private final TransactionTemplate reconcileTransaction;
+    private final Duration reconcileInterval;
+    private final ScheduledExecutorService executor;
+
+    public OwnerBookingSummaryService(OwnerBookingSummaryRepository summaryRepository,
+                                      OutboxEventRepository outboxEventRepository,
+                                      OutboxProperties outboxProperties, TaskRunRepository taskRunRepository,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${shareit.booking.summary.reconcile-interval:5m}") Duration reconcileInterval) {
+        if (reconcileInterval.isNegative() || reconcileInterval.isZero()) {
+            throw new IllegalArgumentException("Интервал пересчёта сводки должен быть положительным: " + reconcileInterval);
+        }
+        this.summaryRepository = summaryRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxProperties = outboxProperties;
+        this.taskRunRepository = taskRunRepository;
+        this.objectMapper = objectMapper;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.reconcileInterval = reconcileInterval;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-summary-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::reconcile, 0, reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    public OwnerBookingSummary getByOwnerId(Long ownerId) {
+        return summaryRepository.findById(ownerId)
+                .orElseGet(() -> OwnerBookingSummary.builder().ownerId(ownerId).build());
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, OwnerBookingSummary> deltas = new TreeMap<>();
+        for (DomainEvent event : events) {
+            if (BOOKING_EVENTS.contains(event.getType())) {
+                addDelta(deltas, event.getType(), toBooking(event.getPayload()), now);
+            } else if (event.getType() == EventType.USER_DELETED) {
+                deltas.remove(event.getAggregateId());
+            }
+        }
+        deltas.values().forEach(delta -> apply(delta, 1));
+    }
+
+    public void reconcile() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer claimed = claimTransaction.execute(status ->
+                    taskRunRepository.claim(RECONCILE_TASK, now, now.minus(reconcileInterval)));
+            if (claimed == null || claimed == 0) {
+                log.debug("Сводка бронирований уже пересчитана другим экземпляром.");
+                return;
+            }
+            log.info("Сводка бронирований пересчитана для {} владельцев.", rebuild());
+        } catch (RuntimeException e) {
+            log.warn("Не удалось пересчитать сводку бронирований, повтор через {}.", reconcileInterval, e);
+        }
+    }
+
+    public int rebuild() {
+        Integer owners = reconcileTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            summaryRepository.deleteAllInBatch();
+            int recalculated = summaryRepository.insertRecalculated(now);
+            Map<Long, OwnerBookingSummary> pending = new TreeMap<>();
+            outboxEventRepository.findByTypeInAndAttemptsLessThan(BOOKING_EVENTS, outboxProperties.getMaxAttempts())
+                    .forEach(event -> addDelta(pending, event.getType(), toBooking(event.getPayload()), now));
+            pending.values().forEach(delta -> apply(delta, -1));
+            return recalculated;
+        });
+        return owners == null ? 0 : owners;
+    }
+
+    private static void addDelta(Map<Long, OwnerBookingSummary> deltas, EventType type, BookingEventDto booking,
+                                 LocalDateTime now) {
+        OwnerBookingSummary delta = deltas.computeIfAbsent(booking.getOwnerId(),
+                ownerId -> OwnerBookingSummary.builder().ownerId(ownerId).reconciled(now).build());
+        switch (type) {
+            case BOOKING_CREATED:
+                delta.setWaiting(delta.getWaiting() + 1);
+                if (booking.getStart().isAfter(now)) {
+                    delta.setUpcoming(delta.getUpcoming() + 1);
+                } else if (booking.getEnd().isAfter(now)) {
+                    delta.setCurrent(delta.getCurrent() + 1);
+                }
+                break;
+            case BOOKING_APPROVED:
+                delta.setWaiting(delta.getWaiting() - 1);
+                delta.setApproved(delta.getApproved() + 1);
+                break;
+            case BOOKING_REJECTED:
+                delta.setWaiting(delta.getWaiting() - 1);
+                delta.setRejected(delta.getRejected() + 1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void apply(OwnerBookingSummary delta, int sign) {
+        long waiting = sign * delta.getWaiting();
+        long approved = sign * delta.getApproved();
+        long rejected = sign * delta.getRejected();
+        long upcoming = sign * delta.getUpcoming();
+        long current = sign * delta.getCurrent();
+        if (summaryRepository.increment(delta.getOwnerId(), waiting, approved, rejected, upcoming, current) == 0
+                && summaryRepository.insertIfOwnerExists(delta.getOwnerId(), waiting, approved, rejected, upcoming,
+                current, delta.getReconciled()) == 0) {
+            log.debug("Владелец {} удалён, изменение сводки бронирований пропущено.", delta.getOwnerId());
+        }
+    }
+
+    private BookingEventDto toBooking(JsonNode payload) {
+        try {
+            return objectMapper.treeToValue(payload, BookingEventDto.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BookingEventDto toBooking(String payload) {
+        try {
+            return objectMapper.readValue(payload, BookingEventDto.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package ru.practicum.shareit.comment.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.etag.VersionStampDto;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    @EntityGraph(attributePaths = "author")
     List<Comment> findByItemId(Long itemId);
 
+    @EntityGraph(attributePaths = "author")
     List<Comment> findByItemIdIn(List<Long> itemIds);
+
+    @Query("SELECT COUNT(c.id) AS total, MAX(c.id) AS maxId, SUM(a.version) AS versionSum " +
+            "FROM Comment c JOIN c.author a " +
+            "WHERE c.itemId = ?1")
+    VersionStampDto findStampByItemId(Long itemId);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.etag;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import ru.practicum.shareit.markers.Constants;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public final class EntityTags {
+    private EntityTags() {
+    }
+
+    public static String of(Object... parts) {
+        String fingerprint = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(":"));
+        return "\"" + DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public static String of(VersionStampDto stamp, Object... parts) {
+        Object[] all = Arrays.copyOf(parts, parts.length + 3);
+        all[parts.length] = stamp.getTotal();
+        all[parts.length + 1] = stamp.getMaxId();
+        all[parts.length + 2] = stamp.getVersionSum();
+        return of(all);
+    }
+
+    public static boolean notModified(ServletWebRequest request, String etag) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.VARY, Constants.HEADER_USER_ID);
+        }
+        return request.checkNotModified(etag);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.etag;
+
+public interface VersionStampDto {
+    Long getTotal();
+
+    Long getMaxId();
+
+    Long getVersionSum();
+}
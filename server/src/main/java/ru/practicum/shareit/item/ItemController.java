@@ -3,11 +3,17 @@ package ru.practicum.shareit.item;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.batch.BatchResultDto;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.dto.CommentRequestDto;
+import ru.practicum.shareit.etag.EntityTags;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.item.dto.ItemImportReportDto;
+import ru.practicum.shareit.item.importer.ImportFormat;
+import ru.practicum.shareit.item.service.ItemImportService;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.markers.Create;
 import ru.practicum.shareit.markers.Update;
@@ -16,6 +22,7 @@ import ru.practicum.shareit.markers.Constants;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -23,6 +30,7 @@ import java.util.List;
 @RequestMapping("/items")
 public class ItemController {
     private final ItemService itemService;
+    private final ItemImportService itemImportService;
 
     @GetMapping
     public List<ItemExtendedDto> getByOwnerId(
@@ -34,7 +42,11 @@ public class ItemController {
 
     @GetMapping("/{id}")
     public ItemExtendedDto getById(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
-                                   @PathVariable Long id) {
+                                   @PathVariable Long id,
+                                   ServletWebRequest webRequest) {
+        if (EntityTags.notModified(webRequest, itemService.getVersionTag(userId, id))) {
+            return null;
+        }
         return itemService.getById(userId, id);
     }
 
@@ -51,6 +63,20 @@ public class ItemController {
         return itemService.add(userId, itemDto);
     }
 
+    @PostMapping("/batch")
+    public List<BatchResultDto<ItemDto>> addBatch(@RequestHeader(Constants.HEADER_USER_ID) Long userId,
+                                                  @RequestBody List<ItemDto> itemDtos) {
+        return itemService.addBatch(userId, itemDtos);
+    }
+
+    @PostMapping("/import")
+    public ItemImportReportDto importItems(@RequestParam(defaultValue = "ndjson") String format,
+                                           InputStream body) {
+        ImportFormat importFormat = ImportFormat.stringToFormat(format).orElseThrow(
+                () -> new IllegalArgumentException("Unknown format: " + format));
+        return itemImportService.importItems(body, importFormat);
+    }
+
     @PostMapping("{id}/comment")
     public CommentDto addComment(@RequestHeader(Constants.HEADER_USER_ID) long userId,
                                  @PathVariable long id,
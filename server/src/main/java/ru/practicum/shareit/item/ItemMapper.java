@@ -20,7 +20,8 @@ public interface ItemMapper {
     @Mapping(target = "ownerId", expression = "java(item.getOwner().getId())")
     ItemDto toItemDto(Item item);
 
-    @Mapping(target = "id", expression = "java(itemDto.getId())")
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "name", expression = "java(itemDto.getName())")
     @Mapping(target = "owner", expression = "java(user)")
     Item toItem(ItemDto itemDto, User user);
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemImportReportDto {
+    long processed;
+    long imported;
+    long failed;
+    long ownersCreated;
+    List<ItemImportErrorDto> errors;
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+@Getter
+@Setter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemImportRowDto {
+    @NotBlank
+    @Size(max = 100)
+    String ownerName;
+
+    @NotBlank
+    @Email
+    String ownerEmail;
+
+    @NotBlank
+    String name;
+
+    @NotBlank
+    String description;
+
+    @NotNull
+    Boolean available;
+    Long requestId;
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.dto;
+
+public interface ItemTextDto {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+}
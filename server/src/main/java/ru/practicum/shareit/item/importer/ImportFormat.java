@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.importer;
+
+import java.util.Optional;
+
+public enum ImportFormat {
+
+    NDJSON,
+    CSV;
+
+    public static Optional<ImportFormat> stringToFormat(String format) {
+        for (ImportFormat value : ImportFormat.values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.item.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemImportReportDto;
+import ru.practicum.shareit.item.service.ItemImportService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.import.file")
+public class ItemImportCommand implements ApplicationRunner {
+    private final ItemImportService itemImportService;
+    private final ItemImportProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path file = Path.of(properties.getFile());
+        ImportFormat format = properties.getFormat() != null ? properties.getFormat() : detectFormat(file);
+        log.info("Импорт вещей из файла {} в формате {}.", file, format);
+        ItemImportReportDto report;
+        try (InputStream input = Files.newInputStream(file)) {
+            report = itemImportService.importItems(input, format);
+        }
+        report.getErrors().forEach(error -> log.warn("Строка {}: {}", error.getLine(), error.getError()));
+        log.info("Импорт вещей из файла {} завершён: {}", file, report);
+        int exitCode = report.getFailed() > 0 ? 1 : 0;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    private static ImportFormat detectFormat(Path file) {
+        String name = file.getFileName().toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        return ImportFormat.stringToFormat(extension).orElseThrow(
+                () -> new IllegalArgumentException("Не удалось определить формат файла импорта: " + name));
+    }
+}
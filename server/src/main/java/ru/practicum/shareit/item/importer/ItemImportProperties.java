@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.import")
+public class ItemImportProperties {
+    private String file;
+    private ImportFormat format;
+    private int chunkSize = 5000;
+    private int jdbcBatchSize = 1000;
+    private int maxReportedErrors = 1000;
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit.item.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.practicum.shareit.item.dto.ItemImportRowDto;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ItemImportReader implements Closeable {
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of(
+            "ownerName", "ownerEmail", "name", "description", "available"
+    );
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long line;
+
+    public ItemImportReader(InputStream input, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    public ItemImportRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (line == 1 && text.startsWith(BYTE_ORDER_MARK)) {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            long rowLine = line;
+            if (format == ImportFormat.NDJSON) {
+                try {
+                    return ItemImportRow.parsed(rowLine, objectMapper.readValue(text, ItemImportRowDto.class));
+                } catch (JsonProcessingException e) {
+                    return ItemImportRow.failed(rowLine, "Некорректная строка: " + e.getOriginalMessage());
+                }
+            }
+            List<String> fields = readCsvRecord(text);
+            if (fields == null) {
+                return ItemImportRow.failed(rowLine, "Незакрытые кавычки в строке.");
+            }
+            if (header == null) {
+                header = readHeader(fields);
+                continue;
+            }
+            if (fields.size() != header.size()) {
+                return ItemImportRow.failed(rowLine, "Ожидалось полей: " + header.size() + ", получено: " + fields.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                if (!fields.get(i).isEmpty()) {
+                    values.put(header.get(i), fields.get(i));
+                }
+            }
+            try {
+                return ItemImportRow.parsed(rowLine, objectMapper.convertValue(values, ItemImportRowDto.class));
+            } catch (IllegalArgumentException e) {
+                String message = e.getCause() instanceof JsonProcessingException
+                        ? ((JsonProcessingException) e.getCause()).getOriginalMessage()
+                        : e.getMessage();
+                return ItemImportRow.failed(rowLine, "Некорректная строка: " + message);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static List<String> readHeader(List<String> fields) {
+        List<String> missing = new ArrayList<>(CSV_REQUIRED_COLUMNS);
+        missing.removeAll(fields);
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("В заголовке CSV нет обязательных колонок: " + missing);
+        }
+        return fields;
+    }
+
+    private List<String> readCsvRecord(String text) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                fields.add(field.toString());
+                return fields;
+            }
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+            field.append('\n');
+        }
+    }
+}
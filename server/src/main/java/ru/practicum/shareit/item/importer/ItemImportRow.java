@@ -0,0 +1,22 @@
+package ru.practicum.shareit.item.importer;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.item.dto.ItemImportRowDto;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemImportRow {
+    private final long line;
+    private final ItemImportRowDto item;
+    private final String error;
+
+    static ItemImportRow parsed(long line, ItemImportRowDto item) {
+        return new ItemImportRow(line, item, null);
+    }
+
+    static ItemImportRow failed(long line, String error) {
+        return new ItemImportRow(line, null, error);
+    }
+}
@@ -2,14 +2,19 @@ package ru.practicum.shareit.item.model;
 
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import ru.practicum.shareit.markers.Constants;
 import ru.practicum.shareit.user.model.User;
 
 import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.ITEMS_CACHE)
 @Getter
 @Setter
 @ToString
@@ -20,7 +25,8 @@ import java.util.Objects;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Item {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     Long id;
 
     @Column(name = "name", nullable = false)
@@ -40,6 +46,10 @@ public class Item {
     @Column(name = "request_id")
     Long requestId;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    Long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
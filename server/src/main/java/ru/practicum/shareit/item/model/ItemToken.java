@@ -0,0 +1,52 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(ItemToken.Key.class)
+@Table(name = "item_tokens", schema = "public")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemToken implements Persistable<ItemToken.Key> {
+    @Id
+    @Column(name = "token", nullable = false)
+    String token;
+
+    @Id
+    @Column(name = "item_id", nullable = false)
+    Long itemId;
+
+    @Column(name = "weight", nullable = false)
+    int weight;
+
+    @Override
+    public Key getId() {
+        return new Key(token, itemId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Key implements Serializable {
+        String token;
+        Long itemId;
+    }
+}
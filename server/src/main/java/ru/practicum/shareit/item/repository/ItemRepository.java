@@ -3,18 +3,34 @@ package ru.practicum.shareit.item.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.etag.VersionStampDto;
+import ru.practicum.shareit.item.dto.ItemTextDto;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i WHERE i.id = ?1")
+    Optional<Item> findByIdForUpdate(Long id);
+
     Page<Item> findByOwnerIdOrderByIdAsc(Long ownerId, Pageable pageable);
 
     List<Item> findByRequestIdIn(List<Long> ids);
 
     List<Item> findByRequestId(Long requestId);
 
+    @Query("SELECT COUNT(i.id) AS total, MAX(i.id) AS maxId, SUM(i.version) AS versionSum " +
+            "FROM Item i " +
+            "WHERE i.requestId IN ?1")
+    VersionStampDto findStampByRequestIdIn(List<Long> requestIds);
+
     @Query("SELECT i " +
             "FROM Item i " +
             "WHERE (UPPER(i.name) LIKE UPPER(CONCAT('%', ?1, '%') ) " +
@@ -22,4 +38,36 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             "AND i.available = true")
     Page<Item> search(String text, Pageable pageable);
 
+    @Query(value = "SELECT i.* " +
+            "FROM items i, to_tsquery('simple', :query) q " +
+            "WHERE i.available AND i.search_vector @@ q " +
+            "ORDER BY ts_rank(i.search_vector, q) DESC, i.id", nativeQuery = true)
+    List<Item> searchFullText(@Param("query") String query, Pageable pageable);
+
+    @Query("SELECT i.id AS id, i.name AS name, i.description AS description " +
+            "FROM Item i " +
+            "WHERE i.available = true AND i.id > :afterId " +
+            "ORDER BY i.id")
+    List<ItemTextDto> findAvailableTextsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(value = "SELECT i.* " +
+            "FROM request_suggestions s JOIN items i ON i.id = s.item_id " +
+            "WHERE s.request_id = ?1 AND i.available " +
+            "ORDER BY s.score DESC, s.item_id", nativeQuery = true)
+    List<Item> findSuggestedByRequestId(Long requestId);
+
+    @Query(value = "SELECT COUNT(i.id) AS \"total\", MAX(i.id) AS \"maxId\", SUM(i.version) AS \"versionSum\" " +
+            "FROM request_suggestions s JOIN items i ON i.id = s.item_id " +
+            "WHERE s.request_id = ?1 AND i.available", nativeQuery = true)
+    VersionStampDto findSuggestedStampByRequestId(Long requestId);
+
+    @Query("SELECT i.id AS id, i.name AS name, i.description AS description " +
+            "FROM Item i " +
+            "WHERE i.owner.id = ?1")
+    List<ItemTextDto> findTextsByOwnerId(Long ownerId);
+
+    @Modifying
+    @Query("DELETE FROM Item i WHERE i.owner.id = ?1")
+    int deleteByOwnerId(Long ownerId);
+
 }
\ No newline at end of file
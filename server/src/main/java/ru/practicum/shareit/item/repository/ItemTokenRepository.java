@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.item.model.ItemToken;
+
+import java.util.Collection;
+
+public interface ItemTokenRepository extends JpaRepository<ItemToken, ItemToken.Key>, ItemTokenRepositoryCustom {
+
+    @Modifying
+    @Query("DELETE FROM ItemToken t WHERE t.itemId IN ?1")
+    int deleteByItemIdIn(Collection<Long> itemIds);
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemTokenRepositoryCustom {
+
+    List<String> findTokensInMoreItemsThan(Collection<String> tokens, long maxItems);
+}
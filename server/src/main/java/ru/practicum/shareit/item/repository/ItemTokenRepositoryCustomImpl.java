@@ -0,0 +1,35 @@
+package ru.practicum.shareit.item.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.StringJoiner;
+
+class ItemTokenRepositoryCustomImpl implements ItemTokenRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findTokensInMoreItemsThan(Collection<String> tokens, long maxItems) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(tokens));
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        StringJoiner sql = new StringJoiner(" UNION ALL ");
+        for (int i = 0; i < distinct.size(); i++) {
+            sql.add("(SELECT t.token FROM item_tokens t WHERE t.token = :token" + i
+                    + " ORDER BY t.item_id LIMIT 1 OFFSET :maxItems)");
+        }
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("maxItems", maxItems);
+        for (int i = 0; i < distinct.size(); i++) {
+            query.setParameter("token" + i, distinct.get(i));
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,200 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemTextDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ItemSearchEngine.PROPERTY, havingValue = "index")
+public class InvertedIndexItemSearchEngine implements ItemSearchEngine {
+    private static final int BOOTSTRAP_BATCH_SIZE = 10_000;
+    private static final long[] NO_IDS = new long[0];
+
+    private final ItemRepository itemRepository;
+    private final NavigableMap<String, ItemPostingList> postingsByTerm = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postingsByTerm.clear();
+            long afterId = 0;
+            int items = 0;
+            List<ItemTextDto> batch;
+            do {
+                batch = itemRepository.findAvailableTextsAfter(afterId, PageRequest.of(0, BOOTSTRAP_BATCH_SIZE));
+                for (ItemTextDto item : batch) {
+                    put(item.getId(), tokenize(item.getName(), item.getDescription()));
+                    afterId = item.getId();
+                    items++;
+                }
+            } while (batch.size() == BOOTSTRAP_BATCH_SIZE);
+            postingsByTerm.values().forEach(ItemPostingList::trim);
+            log.info("Поисковый индекс вещей построен: {} вещей, {} термов.",
+                    items, postingsByTerm.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        List<String> tokens = ItemTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        long[] ids;
+        lock.readLock().lock();
+        try {
+            ids = match(tokens);
+        } finally {
+            lock.readLock().unlock();
+        }
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), ids.length) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), ids.length) : ids.length;
+        if (from >= to) {
+            return List.of();
+        }
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().collect(Collectors.toList());
+        Map<Long, Item> itemsById = itemRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return pageIds.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void index(Item item) {
+        if (!Boolean.TRUE.equals(item.getAvailable())) {
+            return;
+        }
+        Long id = item.getId();
+        String[] terms = tokenize(item.getName(), item.getDescription());
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                put(id, terms);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void remove(Item item) {
+        Map<Long, String[]> termsById = Map.of(item.getId(), tokenize(item.getName(), item.getDescription()));
+        afterCommit(() -> removeAll(termsById));
+    }
+
+    @Override
+    public void removeByOwner(Long ownerId) {
+        Map<Long, String[]> termsById = itemRepository.findTextsByOwnerId(ownerId).stream()
+                .collect(Collectors.toMap(ItemTextDto::getId, item -> tokenize(item.getName(), item.getDescription())));
+        afterCommit(() -> removeAll(termsById));
+    }
+
+    private long[] match(List<String> tokens) {
+        List<long[]> matches = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            long[] ids = matchPrefix(token);
+            if (ids.length == 0) {
+                return NO_IDS;
+            }
+            matches.add(ids);
+        }
+        matches.sort(Comparator.comparingInt(ids -> ids.length));
+        long[] result = matches.get(0);
+        for (int i = 1; i < matches.size() && result.length > 0; i++) {
+            result = ItemPostingList.intersect(result, matches.get(i));
+        }
+        return result;
+    }
+
+    private long[] matchPrefix(String prefix) {
+        Collection<ItemPostingList> postings = postingsByTerm
+                .subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values();
+        if (postings.isEmpty()) {
+            return NO_IDS;
+        }
+        long[] ids = new long[postings.stream().mapToInt(ItemPostingList::size).sum()];
+        int length = 0;
+        for (ItemPostingList posting : postings) {
+            length = posting.copyTo(ids, length);
+        }
+        if (postings.size() == 1) {
+            return ids;
+        }
+        Arrays.sort(ids);
+        int unique = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[unique++] = ids[i];
+            }
+        }
+        return unique == ids.length ? ids : Arrays.copyOf(ids, unique);
+    }
+
+    private void removeAll(Map<Long, String[]> termsById) {
+        lock.writeLock().lock();
+        try {
+            termsById.forEach(this::delete);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Long id, String[] terms) {
+        for (String term : terms) {
+            postingsByTerm.computeIfAbsent(term, key -> new ItemPostingList()).add(id);
+        }
+    }
+
+    private void delete(Long id, String[] terms) {
+        for (String term : terms) {
+            ItemPostingList posting = postingsByTerm.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postingsByTerm.remove(term);
+                }
+            }
+        }
+    }
+
+    private static String[] tokenize(String name, String description) {
+        return ItemTokenizer.tokenize(name + " " + description).toArray(String[]::new);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
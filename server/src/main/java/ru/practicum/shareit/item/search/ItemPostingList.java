@@ -0,0 +1,83 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+
+final class ItemPostingList {
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids = EMPTY;
+    private int size;
+
+    void add(long id) {
+        if (size > 0 && ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+        ids[pos] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+        if (size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, Math.max(size * 2, 4));
+        }
+    }
+
+    void trim() {
+        if (ids.length != size) {
+            ids = size == 0 ? EMPTY : Arrays.copyOf(ids, size);
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int copyTo(long[] target, int offset) {
+        System.arraycopy(ids, 0, target, offset, size);
+        return offset + size;
+    }
+
+    static long[] intersect(long[] smaller, long[] larger) {
+        long[] result = new long[smaller.length];
+        int n = 0;
+        int from = 0;
+        for (long id : smaller) {
+            int pos = Arrays.binarySearch(larger, from, larger.length, id);
+            if (pos >= 0) {
+                result[n++] = id;
+                from = pos + 1;
+            } else {
+                from = -pos - 1;
+            }
+            if (from == larger.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(ids.length + (ids.length >> 1), 4));
+        }
+    }
+}
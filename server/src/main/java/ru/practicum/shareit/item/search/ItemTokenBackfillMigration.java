@@ -0,0 +1,82 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class ItemTokenBackfillMigration implements JavaMigration {
+    private static final int BATCH_SIZE = 10_000;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("5.1");
+    }
+
+    @Override
+    public String getDescription() {
+        return "backfill item tokens";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean isUndo() {
+        return false;
+    }
+
+    @Override
+    public boolean isBaselineMigration() {
+        return false;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        long afterId = 0;
+        long items = 0;
+        int fetched;
+        try (PreparedStatement select = connection.prepareStatement("SELECT id, name, description FROM items "
+                + "WHERE available = true AND id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO item_tokens (token, item_id, weight) VALUES (?, ?, ?)")) {
+            do {
+                fetched = 0;
+                select.setLong(1, afterId);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        afterId = rows.getLong("id");
+                        fetched++;
+                        for (Map.Entry<String, Integer> token : ItemTokenIndex.weighTokens(rows.getString("name"),
+                                rows.getString("description")).entrySet()) {
+                            insert.setString(1, token.getKey());
+                            insert.setLong(2, afterId);
+                            insert.setInt(3, token.getValue());
+                            insert.addBatch();
+                        }
+                    }
+                }
+                insert.executeBatch();
+                items += fetched;
+            } while (fetched == BATCH_SIZE);
+        }
+        log.info("Токены построены для {} вещей.", items);
+    }
+}
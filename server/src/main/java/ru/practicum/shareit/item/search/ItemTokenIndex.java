@@ -0,0 +1,77 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemToken;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemTokenRepository;
+import ru.practicum.shareit.outbox.DomainEvent;
+import ru.practicum.shareit.outbox.DomainEventListener;
+import ru.practicum.shareit.outbox.EventType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ItemTokenIndex implements DomainEventListener {
+    public static final int NAME_WEIGHT = 2;
+    public static final int DESCRIPTION_WEIGHT = 1;
+    public static final int MIN_TOKEN_LENGTH = 2;
+    public static final int MAX_TOKEN_LENGTH = 64;
+    private static final Set<EventType> ITEM_EVENTS =
+            EnumSet.of(EventType.ITEM_CREATED, EventType.ITEM_UPDATED, EventType.ITEM_DELETED);
+
+    private final ItemTokenRepository itemTokenRepository;
+    private final ItemRepository itemRepository;
+
+    public static Map<String, Integer> weighTokens(String name, String description) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        tokenize(name).forEach(token -> weights.put(token, NAME_WEIGHT));
+        tokenize(description).forEach(token -> weights.putIfAbsent(token, DESCRIPTION_WEIGHT));
+        return weights;
+    }
+
+    public static List<String> tokenize(String text) {
+        return ItemTokenizer.tokenize(text).stream()
+                .filter(token -> token.length() >= MIN_TOKEN_LENGTH && token.length() <= MAX_TOKEN_LENGTH)
+                .collect(Collectors.toList());
+    }
+
+    public void indexNew(Collection<Item> items) {
+        List<ItemToken> tokens = new ArrayList<>();
+        items.stream()
+                .filter(Item::getAvailable)
+                .forEach(item -> addTokens(tokens, item.getId(), item.getName(), item.getDescription()));
+        itemTokenRepository.saveAll(tokens);
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        Set<Long> itemIds = events.stream()
+                .filter(event -> ITEM_EVENTS.contains(event.getType()))
+                .map(DomainEvent::getAggregateId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        itemTokenRepository.deleteByItemIdIn(itemIds);
+        indexNew(itemRepository.findAllById(itemIds));
+    }
+
+    private static void addTokens(List<ItemToken> tokens, Long itemId, String name, String description) {
+        weighTokens(name, description).forEach((token, weight) -> tokens.add(ItemToken.builder()
+                .token(token)
+                .itemId(itemId)
+                .weight(weight)
+                .build()));
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.item.dto.ItemImportReportDto;
+import ru.practicum.shareit.item.importer.ImportFormat;
+
+import java.io.InputStream;
+
+public interface ItemImportService {
+    ItemImportReportDto importItems(InputStream input, ImportFormat format);
+}
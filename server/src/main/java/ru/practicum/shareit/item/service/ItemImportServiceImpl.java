@@ -0,0 +1,220 @@
+package ru.practicum.shareit.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.batch.BatchValidator;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportErrorDto;
+import ru.practicum.shareit.item.dto.ItemImportReportDto;
+import ru.practicum.shareit.item.dto.ItemImportRowDto;
+import ru.practicum.shareit.item.importer.ImportFormat;
+import ru.practicum.shareit.item.importer.ItemImportProperties;
+import ru.practicum.shareit.item.importer.ItemImportReader;
+import ru.practicum.shareit.item.importer.ItemImportRow;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.item.search.ItemTokenIndex;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.mapper.UserMapper;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@EnableConfigurationProperties(ItemImportProperties.class)
+public class ItemImportServiceImpl implements ItemImportService {
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemMapper itemMapper;
+    private final UserMapper userMapper;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemTokenIndex itemTokenIndex;
+    private final BatchValidator batchValidator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final ItemImportProperties properties;
+    private final TransactionTemplate transaction;
+
+    public ItemImportServiceImpl(ItemRepository itemRepository, UserRepository userRepository,
+                                 ItemRequestRepository itemRequestRepository, ItemMapper itemMapper,
+                                 UserMapper userMapper, ItemSearchEngine itemSearchEngine,
+                                 ItemTokenIndex itemTokenIndex,
+                                 BatchValidator batchValidator, ObjectMapper objectMapper,
+                                 EntityManager entityManager, ItemImportProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        if (properties.getChunkSize() <= 0) {
+            throw new IllegalArgumentException("Размер пакета импорта должен быть положительным: "
+                    + properties.getChunkSize());
+        }
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.itemMapper = itemMapper;
+        this.userMapper = userMapper;
+        this.itemSearchEngine = itemSearchEngine;
+        this.itemTokenIndex = itemTokenIndex;
+        this.batchValidator = batchValidator;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ItemImportReportDto importItems(InputStream input, ImportFormat format) {
+        Report report = new Report(properties.getMaxReportedErrors());
+        try (ItemImportReader reader = new ItemImportReader(input, format, objectMapper)) {
+            List<ItemImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+            ItemImportRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == properties.getChunkSize()) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, report);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Импорт вещей завершён: обработано {} строк, загружено {}, ошибок {}, создано владельцев {}.",
+                report.processed, report.imported, report.failed, report.ownersCreated);
+        return report.toDto();
+    }
+
+    private void importChunk(List<ItemImportRow> rows, Report report) {
+        report.processed += rows.size();
+        List<ItemImportRow> valid = new ArrayList<>(rows.size());
+        for (ItemImportRow row : rows) {
+            String error = row.getError() != null ? row.getError() : batchValidator.validate(row.getItem());
+            if (error != null) {
+                report.fail(row.getLine(), error);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (!valid.isEmpty()) {
+            try {
+                ChunkResult result = transaction.execute(status -> save(valid));
+                report.imported += result.imported;
+                report.ownersCreated += result.ownersCreated;
+                result.errors.forEach(error -> report.fail(error.getLine(), error.getError()));
+            } catch (DataAccessException e) {
+                String error = "Пакет не записан: " + e.getMostSpecificCause().getMessage();
+                valid.forEach(row -> report.fail(row.getLine(), error));
+            }
+        }
+        log.info("Импорт вещей: обработано {} строк, загружено {}, ошибок {}.",
+                report.processed, report.imported, report.failed);
+    }
+
+    private ChunkResult save(List<ItemImportRow> rows) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(properties.getJdbcBatchSize());
+        ChunkResult result = new ChunkResult();
+        Set<String> emails = rows.stream()
+                .map(row -> row.getItem().getOwnerEmail())
+                .collect(Collectors.toSet());
+        Map<String, User> owners = userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+        Set<Long> requestIds = rows.stream()
+                .map(row -> row.getItem().getRequestId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingRequestIds = requestIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(itemRequestRepository.findExistingIds(requestIds));
+
+        Map<String, User> newOwners = new HashMap<>();
+        List<Item> items = new ArrayList<>(rows.size());
+        for (ItemImportRow row : rows) {
+            ItemImportRowDto dto = row.getItem();
+            if (dto.getRequestId() != null && !existingRequestIds.contains(dto.getRequestId())) {
+                result.errors.add(new ItemImportErrorDto(row.getLine(), "Запроса не существует."));
+                continue;
+            }
+            User owner = owners.computeIfAbsent(dto.getOwnerEmail(), email -> newOwners.computeIfAbsent(email,
+                    e -> userMapper.toUser(UserDto.builder().name(dto.getOwnerName()).email(e).build())));
+            items.add(itemMapper.toItem(ItemDto.builder()
+                    .name(dto.getName())
+                    .description(dto.getDescription())
+                    .available(dto.getAvailable())
+                    .requestId(dto.getRequestId())
+                    .build(), owner));
+        }
+
+        userRepository.saveAll(newOwners.values());
+        itemRepository.saveAll(items);
+        items.forEach(itemSearchEngine::index);
+        itemTokenIndex.indexNew(items);
+        entityManager.flush();
+        entityManager.clear();
+        result.imported = items.size();
+        result.ownersCreated = newOwners.size();
+        return result;
+    }
+
+    private static class ChunkResult {
+        private final List<ItemImportErrorDto> errors = new ArrayList<>();
+        private int imported;
+        private int ownersCreated;
+    }
+
+    private static class Report {
+        private final int maxReportedErrors;
+        private final List<ItemImportErrorDto> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+        private long ownersCreated;
+
+        Report(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(long line, String error) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ItemImportErrorDto(line, error));
+            }
+        }
+
+        ItemImportReportDto toDto() {
+            return ItemImportReportDto.builder()
+                    .processed(processed)
+                    .imported(imported)
+                    .failed(failed)
+                    .ownersCreated(ownersCreated)
+                    .errors(errors.stream()
+                            .sorted(Comparator.comparingLong(ItemImportErrorDto::getLine))
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+    }
+}
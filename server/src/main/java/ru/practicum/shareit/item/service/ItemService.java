@@ -1,17 +1,21 @@
 package ru.practicum.shareit.item.service;
 
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.batch.BatchResultDto;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemExtendedDto;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemService {
     ItemDto add(Long userId, ItemDto itemDto);
 
+    List<BatchResultDto<ItemDto>> addBatch(Long userId, List<ItemDto> itemDtos);
+
     CommentDto addComment(Long userId, Long id, CommentRequestDto commentRequestDto);
 
     ItemDto update(Long userId, Long id, ItemDto itemDto);
@@ -20,8 +24,14 @@ public interface ItemService {
 
     ItemExtendedDto getById(Long userId, Long id);
 
+    String getVersionTag(Long userId, Long id);
+
     Item getItemById(Long id);
 
+    List<Item> getItemsByIds(Collection<Long> ids);
+
+    Item getItemByIdForUpdate(Long id);
+
     void delete(Long id);
 
     List<ItemDto> search(String text, Pageable pageable);
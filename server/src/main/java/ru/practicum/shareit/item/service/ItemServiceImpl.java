@@ -6,14 +6,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.batch.BatchResultDto;
+import ru.practicum.shareit.batch.BatchValidator;
 import ru.practicum.shareit.booking.dto.BookingItemDto;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingAvailabilityIndex;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.dto.CommentRequestDto;
 import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.etag.EntityTags;
 import ru.practicum.shareit.exception.AuthorisationException;
 import ru.practicum.shareit.exception.BookingException;
 import ru.practicum.shareit.exception.NotFoundException;
@@ -22,6 +26,12 @@ import ru.practicum.shareit.item.dto.ItemExtendedDto;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.markers.Create;
+import ru.practicum.shareit.outbox.DomainEventPublisher;
+import ru.practicum.shareit.outbox.EventType;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
@@ -38,12 +48,56 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemMapper itemMapper;
+    private final BookingAvailabilityIndex bookingAvailabilityIndex;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemRequestRepository itemRequestRepository;
+    private final BatchValidator batchValidator;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Override
     @Transactional
     public ItemDto add(Long userId, ItemDto itemDto) {
-        Item item = itemMapper.toItem(itemDto, userService.getUserById(userId));
-        return itemMapper.toItemDto(itemRepository.save(item));
+        Item item = itemRepository.save(itemMapper.toItem(itemDto, userService.getUserById(userId)));
+        itemSearchEngine.index(item);
+        ItemDto created = itemMapper.toItemDto(item);
+        domainEventPublisher.publish(EventType.ITEM_CREATED, item.getId(), created);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<BatchResultDto<ItemDto>> addBatch(Long userId, List<ItemDto> itemDtos) {
+        User owner = userService.getUserById(userId);
+        Set<Long> requestIds = new HashSet<>(itemRequestRepository.findExistingIds(itemDtos.stream()
+                .filter(Objects::nonNull)
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())));
+
+        List<BatchResultDto<ItemDto>> results = new ArrayList<>(itemDtos.size());
+        Map<Integer, Item> itemsByIndex = new LinkedHashMap<>();
+        for (int i = 0; i < itemDtos.size(); i++) {
+            ItemDto itemDto = itemDtos.get(i);
+            String error = batchValidator.validate(itemDto, Create.class);
+            if (error == null && itemDto.getRequestId() != null && !requestIds.contains(itemDto.getRequestId())) {
+                error = "Запроса не существует.";
+            }
+            if (error != null) {
+                results.add(BatchResultDto.failed(i, error));
+                continue;
+            }
+            itemsByIndex.put(i, itemMapper.toItem(itemDto, owner));
+        }
+
+        itemRepository.saveAll(itemsByIndex.values());
+        itemsByIndex.forEach((index, item) -> {
+            itemSearchEngine.index(item);
+            ItemDto created = itemMapper.toItemDto(item);
+            domainEventPublisher.publish(EventType.ITEM_CREATED, item.getId(), created);
+            results.add(BatchResultDto.created(index, created));
+        });
+        results.sort(Comparator.comparingInt(BatchResultDto::getIndex));
+        return results;
     }
 
     @Override
@@ -69,6 +123,7 @@ public class ItemServiceImpl implements ItemService {
         if (!Objects.equals(userId, updItem.getOwner().getId())) {
             throw new AuthorisationException("Изменение вещи доступно только владельцу.");
         }
+        itemSearchEngine.remove(updItem);
         if (itemDto.getDescription() != null) {
             updItem.setDescription(itemDto.getDescription());
         }
@@ -78,60 +133,65 @@ public class ItemServiceImpl implements ItemService {
         if (itemDto.getAvailable() != null) {
             updItem.setAvailable(itemDto.getAvailable());
         }
-        return itemMapper.toItemDto(itemRepository.save(updItem));
+        Item item = itemRepository.save(updItem);
+        itemSearchEngine.index(item);
+        ItemDto updated = itemMapper.toItemDto(item);
+        domainEventPublisher.publish(EventType.ITEM_UPDATED, id, updated);
+        return updated;
     }
 
     @Override
     public List<ItemExtendedDto> getByOwnerId(Long userId, Pageable pageable) {
         Page<Item> items = itemRepository.findByOwnerIdOrderByIdAsc(userId, pageable);
-
+        if (items.isEmpty()) {
+            return List.of();
+        }
         List<Long> itemIds = items.stream().map(Item::getId).collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, List<CommentDto>> commentDtosByItem = commentRepository.findByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(Comment::getItemId,
+                        Collectors.mapping(itemMapper::commentToCommentDto, Collectors.toList())));
+        Map<Long, BookingItemDto> lastBookingByItem = bookingDtosByItem(
+                bookingRepository.findLastByItemIdIn(itemIds, Status.APPROVED.name(), now));
+        Map<Long, BookingItemDto> nextBookingByItem = bookingDtosByItem(
+                bookingRepository.findNextByItemIdIn(itemIds, Status.APPROVED.name(), now));
+
+        return items.stream()
+                .map(item -> itemMapper.toItemExtendedDto(item,
+                        lastBookingByItem.get(item.getId()),
+                        nextBookingByItem.get(item.getId()),
+                        commentDtosByItem.getOrDefault(item.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
 
-        Map<Long, List<Comment>> commentsByItem = commentRepository.findByItemIdIn(itemIds).stream().collect(Collectors.groupingBy(Comment::getItemId));
-
-        Map<Item, List<Booking>> bookingsByItem = bookingRepository.findByItemIdIn(itemIds).stream().collect(Collectors.groupingBy(Booking::getItem));
-
-        Map<Long, List<CommentDto>> commentDtosByItem = commentDtosByItem(items, commentsByItem);
-
-        Map<Long, List<BookingItemDto>> bookingDtosByItem = bookingDtosByItem(items, bookingsByItem);
-
-        Map<Long, BookingItemDto> lastBookingByItem = new HashMap<>();
-        Map<Long, BookingItemDto> nextBookingByItem = new HashMap<>();
-
-        for (Item item : items) {
-            if (bookingsByItem.get(item) == null) {
-                lastBookingByItem.put(item.getId(), null);
-                nextBookingByItem.put(item.getId(), null);
-            } else {
-                nextBookingByItem.put(item.getId(), bookingDtosByItem.get(item.getId())
-                        .stream()
-                        .filter(b -> b.getStart().isBefore(LocalDateTime.now()))
-                        .findFirst().orElse(null));
-                lastBookingByItem.put(item.getId(), bookingDtosByItem.get(item.getId())
-                        .stream()
-                        .filter(b -> b.getStart().isAfter(LocalDateTime.now()))
-                        .findFirst().orElse(null));
-            }
+    @Override
+    public ItemExtendedDto getById(Long userId, Long id) {
+        Item item = getItemById(id);
+        BookingItemDto lastBooking = null;
+        BookingItemDto nextBooking = null;
+        if (Objects.equals(userId, item.getOwner().getId())) {
+            LocalDateTime now = LocalDateTime.now();
+            lastBooking = addLastBooking(item, now);
+            nextBooking = addNextBooking(item, now);
         }
-
-        List<ItemExtendedDto> itemExtendedDos = items.stream().map(item -> itemMapper.toItemExtendedDto(item, null, null, null)).collect(Collectors.toList());
-
-        itemExtendedDos.forEach(ItemDto -> {
-            ItemDto.setComments(commentDtosByItem.get(ItemDto.getId()));
-            ItemDto.setNextBooking(lastBookingByItem.get(ItemDto.getId()));
-            ItemDto.setLastBooking(nextBookingByItem.get(ItemDto.getId()));
-        });
-        return itemExtendedDos;
+        return itemMapper.toItemExtendedDto(item, lastBooking, nextBooking, addComment(item));
     }
 
     @Override
-    public ItemExtendedDto getById(Long userId, Long id) {
+    public String getVersionTag(Long userId, Long id) {
         Item item = getItemById(id);
-        if (!Objects.equals(userId, item.getOwner().getId())) {
-            return itemMapper.toItemExtendedDto(item, null, null, addComment(item));
-        } else {
-            return itemMapper.toItemExtendedDto(item, addLastBooking(item), addNextBooking(item), addComment(item));
+        BookingItemDto lastBooking = null;
+        BookingItemDto nextBooking = null;
+        if (Objects.equals(userId, item.getOwner().getId())) {
+            LocalDateTime now = LocalDateTime.now();
+            lastBooking = addLastBooking(item, now);
+            nextBooking = addNextBooking(item, now);
         }
+        return EntityTags.of(commentRepository.findStampByItemId(item.getId()),
+                "item", item.getId(), item.getVersion(),
+                lastBooking != null ? lastBooking.getId() : null,
+                nextBooking != null ? nextBooking.getId() : null);
     }
 
     @Override
@@ -139,10 +199,24 @@ public class ItemServiceImpl implements ItemService {
         return itemRepository.findById(id).orElseThrow(() -> new NotFoundException("Вещи не существует."));
     }
 
+    @Override
+    public List<Item> getItemsByIds(Collection<Long> ids) {
+        return itemRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional
+    public Item getItemByIdForUpdate(Long id) {
+        return itemRepository.findByIdForUpdate(id).orElseThrow(() -> new NotFoundException("Вещи не существует."));
+    }
+
     @Override
     @Transactional
     public void delete(Long id) {
+        itemRepository.findById(id).ifPresent(itemSearchEngine::remove);
         itemRepository.deleteById(id);
+        bookingAvailabilityIndex.evictItem(id);
+        domainEventPublisher.publish(EventType.ITEM_DELETED, id, null);
     }
 
     @Override
@@ -150,64 +224,31 @@ public class ItemServiceImpl implements ItemService {
         if (text.isBlank()) {
             return List.of();
         }
-        return itemRepository.search(text, pageable).stream().map(itemMapper::toItemDto).collect(Collectors.toList());
+        return itemSearchEngine.search(text, pageable).stream().map(itemMapper::toItemDto).collect(Collectors.toList());
     }
 
-    private BookingItemDto addLastBooking(Item item) {
-        List<Booking> bookings = bookingRepository.findByItemIdAndStartBeforeAndStatusEqualsOrderByStartDesc(
-                item.getId(), LocalDateTime.now(), Status.APPROVED);
-
-        if (bookings.isEmpty()) {
-            return null;
-        } else {
-            Booking lastBooking = bookings.get(0);
-            return itemMapper.bookingToBookingItemDto(lastBooking);
-        }
+    private BookingItemDto addLastBooking(Item item, LocalDateTime now) {
+        return bookingRepository.findLastByItemIdIn(List.of(item.getId()), Status.APPROVED.name(), now)
+                .stream()
+                .findFirst()
+                .map(itemMapper::bookingToBookingItemDto)
+                .orElse(null);
     }
 
-    private BookingItemDto addNextBooking(Item item) {
-        List<Booking> bookings = bookingRepository.findByItemIdAndStartAfterAndStatusEqualsOrderByStartAsc(
-                item.getId(), LocalDateTime.now(), Status.APPROVED);
-
-        if (bookings.isEmpty()) {
-            return null;
-        } else {
-            Booking nextBooking = bookings.get(0);
-            return itemMapper.bookingToBookingItemDto(nextBooking);
-        }
+    private BookingItemDto addNextBooking(Item item, LocalDateTime now) {
+        return bookingRepository.findNextByItemIdIn(List.of(item.getId()), Status.APPROVED.name(), now)
+                .stream()
+                .findFirst()
+                .map(itemMapper::bookingToBookingItemDto)
+                .orElse(null);
     }
 
     private List<CommentDto> addComment(Item item) {
         return commentRepository.findByItemId(item.getId()).stream().map(itemMapper::commentToCommentDto).collect(Collectors.toList());
     }
 
-    private Map<Long, List<CommentDto>> commentDtosByItem(Page<Item> items, Map<Long, List<Comment>> commentsByItem) {
-        Map<Long, List<CommentDto>> commentDtosByItem = new HashMap<>();
-        for (Item item : items) {
-            if (commentsByItem.get(item.getId()) == null) {
-                commentDtosByItem.put(item.getId(), new ArrayList<>());
-            } else {
-                commentDtosByItem.put(item.getId(), commentsByItem.get(item.getId())
-                        .stream()
-                        .map(itemMapper::commentToCommentDto)
-                        .collect(Collectors.toList()));
-            }
-        }
-        return commentDtosByItem;
-    }
-
-    private Map<Long, List<BookingItemDto>> bookingDtosByItem(Page<Item> items, Map<Item, List<Booking>> bookingsByItem) {
-        Map<Long, List<BookingItemDto>> bookingDtosByItem = new HashMap<>();
-        for (Item item : items) {
-            if (bookingsByItem.get(item) != null) {
-                bookingDtosByItem.put(item.getId(), bookingsByItem.get(item)
-                        .stream()
-                        .filter(Booking -> Booking.getStatus().equals(Status.APPROVED))
-                        .map(itemMapper::bookingToBookingItemDto)
-                        .sorted(Comparator.comparing(BookingItemDto::getStart))
-                        .collect(Collectors.toList()));
-            }
-        }
-        return bookingDtosByItem;
+    private Map<Long, BookingItemDto> bookingDtosByItem(List<Booking> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(), itemMapper::bookingToBookingItemDto));
     }
-}
\ No newline at end of file
+}
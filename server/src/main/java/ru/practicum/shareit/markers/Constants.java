@@ -2,6 +2,10 @@ package ru.practicum.shareit.markers;
 
 public final class Constants {
     public static final String HEADER_USER_ID = "X-Sharer-User-Id";
+    public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+    public static final String HEADER_SQL_STATEMENT_COUNT = "X-Sql-Statement-Count";
     public static final String PAGE_DEFAULT_FROM = "0";
     public static final String PAGE_DEFAULT_SIZE = "10";
+    public static final String USERS_CACHE = "users";
+    public static final String ITEMS_CACHE = "items";
 }
\ No newline at end of file
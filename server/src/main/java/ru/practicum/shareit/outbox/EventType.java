@@ -0,0 +1,13 @@
+package ru.practicum.shareit.outbox;
+
+public enum EventType {
+    BOOKING_CREATED,
+    BOOKING_APPROVED,
+    BOOKING_REJECTED,
+    ITEM_CREATED,
+    ITEM_UPDATED,
+    ITEM_DELETED,
+    USER_CREATED,
+    USER_UPDATED,
+    USER_DELETED
+}
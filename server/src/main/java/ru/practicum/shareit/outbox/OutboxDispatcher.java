@@ -0,0 +1,207 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxDispatcher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<DomainEventListener> listeners;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transaction;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final Counter dispatched;
+    private final Counter failed;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, ObjectProvider<DomainEventListener> listeners,
+                            ObjectMapper objectMapper, OutboxProperties properties,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        if (properties.getBatchSize() <= 0 || properties.getMaxAttempts() <= 0) {
+            throw new IllegalArgumentException("Размер пакета и число попыток outbox должны быть положительными.");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatched = Counter.builder("shareit.outbox.dispatched")
+                .description("События, доставленные слушателям")
+                .register(meterRegistry);
+        this.failed = Counter.builder("shareit.outbox.failed")
+                .description("Неудачные попытки доставки событий")
+                .register(meterRegistry);
+        Gauge.builder("shareit.outbox.stuck", this, OutboxDispatcher::countStuck)
+                .description("События, исчерпавшие попытки доставки")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.getPollInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Доставка событий не завершилась за 5 секунд, оставшиеся события будут доставлены после перезапуска.");
+            executor.shutdownNow();
+        }
+    }
+
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                wakeUpPending.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        wakeUpPending.set(false);
+        try {
+            while (dispatchBatch() == properties.getBatchSize()) {
+                wakeUpPending.set(false);
+            }
+        } catch (RuntimeException e) {
+            log.error("Ошибка при выборке событий outbox.", e);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<Long> ids = new ArrayList<>();
+        try {
+            Integer count = transaction.execute(status -> {
+                List<OutboxEvent> events = findPending();
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                events.forEach(event -> ids.add(event.getId()));
+                deliver(events);
+                outboxEventRepository.deleteAllByIdInBatch(ids);
+                return events.size();
+            });
+            dispatched.increment(count);
+            return count;
+        } catch (RuntimeException e) {
+            if (ids.isEmpty()) {
+                throw e;
+            }
+            if (ids.size() == 1) {
+                charge(ids.get(0), e);
+                return 0;
+            }
+            log.warn("Не удалось доставить пакет из {} событий (с {} по {}), доставка по одному.",
+                    ids.size(), ids.get(0), ids.get(ids.size() - 1), e);
+            int delivered = 0;
+            for (Long id : ids) {
+                if (dispatchOne(id)) {
+                    delivered++;
+                }
+            }
+            return delivered;
+        }
+    }
+
+    private boolean dispatchOne(Long id) {
+        try {
+            Boolean delivered = transaction.execute(status -> {
+                Optional<OutboxEvent> event = findPending(id);
+                if (event.isEmpty()) {
+                    return false;
+                }
+                deliver(List.of(event.get()));
+                outboxEventRepository.deleteAllByIdInBatch(List.of(id));
+                return true;
+            });
+            if (Boolean.TRUE.equals(delivered)) {
+                dispatched.increment();
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            charge(id, e);
+            return false;
+        }
+    }
+
+    private void deliver(List<OutboxEvent> events) {
+        List<DomainEvent> domainEvents = events.stream()
+                .map(this::toDomainEvent)
+                .collect(Collectors.toList());
+        listeners.orderedStream().forEach(listener -> listener.onEvents(domainEvents));
+    }
+
+    private void charge(Long id, RuntimeException e) {
+        failed.increment();
+        transaction.executeWithoutResult(status -> outboxEventRepository.incrementAttempts(List.of(id)));
+        log.warn("Не удалось доставить событие {}, повтор через {}. После {} попыток событие остаётся в outbox "
+                + "без доставки.", id, properties.getPollInterval(), properties.getMaxAttempts(), e);
+    }
+
+    private double countStuck() {
+        try {
+            return outboxEventRepository.countByAttemptsGreaterThanEqual(properties.getMaxAttempts());
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    private List<OutboxEvent> findPending() {
+        PageRequest batch = PageRequest.of(0, properties.getBatchSize());
+        return properties.isSkipLocked()
+                ? outboxEventRepository.findPendingSkipLocked(properties.getMaxAttempts(), batch)
+                : outboxEventRepository.findPending(properties.getMaxAttempts(), batch);
+    }
+
+    private Optional<OutboxEvent> findPending(Long id) {
+        return properties.isSkipLocked()
+                ? outboxEventRepository.findPendingByIdSkipLocked(id, properties.getMaxAttempts())
+                : outboxEventRepository.findByIdAndAttemptsLessThan(id, properties.getMaxAttempts());
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) {
+        try {
+            return new DomainEvent(event.getId(), event.getType(), event.getAggregateId(),
+                    event.getPayload() == null ? null : objectMapper.readTree(event.getPayload()),
+                    event.getCreated());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
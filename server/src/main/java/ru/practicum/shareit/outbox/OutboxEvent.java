@@ -0,0 +1,52 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "outbox_events", schema = "public")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    EventType type;
+
+    @Column(name = "aggregate_id", nullable = false)
+    Long aggregateId;
+
+    @Column(name = "payload")
+    String payload;
+
+    @Column(name = "created", nullable = false)
+    LocalDateTime created;
+
+    @Column(name = "attempts", nullable = false)
+    int attempts;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OutboxEvent)) return false;
+        return id != null && id.equals(((OutboxEvent) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getClass());
+    }
+}
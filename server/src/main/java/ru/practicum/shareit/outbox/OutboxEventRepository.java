@@ -0,0 +1,41 @@
+package ru.practicum.shareit.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    String SKIP_LOCKED = "-2";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select e from OutboxEvent e where e.attempts < :maxAttempts order by e.id")
+    List<OutboxEvent> findPendingSkipLocked(int maxAttempts, Pageable pageable);
+
+    @Query("select e from OutboxEvent e where e.attempts < :maxAttempts order by e.id")
+    List<OutboxEvent> findPending(int maxAttempts, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select e from OutboxEvent e where e.id = :id and e.attempts < :maxAttempts")
+    Optional<OutboxEvent> findPendingByIdSkipLocked(Long id, int maxAttempts);
+
+    Optional<OutboxEvent> findByIdAndAttemptsLessThan(Long id, int maxAttempts);
+
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1 where e.id in :ids")
+    int incrementAttempts(Collection<Long> ids);
+
+    List<OutboxEvent> findByTypeInAndAttemptsLessThan(Collection<EventType> types, int maxAttempts);
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.outbox")
+public class OutboxProperties {
+    private int batchSize = 100;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private int maxAttempts = 10;
+    private boolean skipLocked = true;
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import ru.practicum.shareit.etag.EntityTags;
 import ru.practicum.shareit.markers.Constants;
 import ru.practicum.shareit.request.dto.ItemRequestAddDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
@@ -32,7 +34,11 @@ public class ItemRequestController {
     @GetMapping("/{id}")
     public ItemRequestExtendedDto getById(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            ServletWebRequest webRequest) {
+        if (EntityTags.notModified(webRequest, itemRequestService.getVersionTag(userId, id))) {
+            return null;
+        }
         return itemRequestService.getById(userId, id);
     }
 
@@ -46,7 +52,12 @@ public class ItemRequestController {
     public List<ItemRequestExtendedDto> getAll(
             @RequestHeader(Constants.HEADER_USER_ID) Long userId,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size) {
-        return itemRequestService.getAll(userId, PageRequest.of(from / size, size));
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size,
+            ServletWebRequest webRequest) {
+        PageRequest pageRequest = PageRequest.of(from / size, size);
+        if (EntityTags.notModified(webRequest, itemRequestService.getAllVersionTag(userId, pageRequest))) {
+            return null;
+        }
+        return itemRequestService.getAll(userId, pageRequest);
     }
 }
\ No newline at end of file
@@ -20,8 +20,15 @@ public interface ItemRequestMapper {
     @Mapping(target = "created", expression = "java(dateTime)")
     ItemRequest toItemRequest(ItemRequestAddDto itemRequestCreateDto, User user, LocalDateTime dateTime);
 
-    ItemRequestDto toItemRequestDto(ItemRequest itemRequest);
+    @Mapping(target = "suggestions", expression = "java(suggestions)")
+    ItemRequestDto toItemRequestDto(ItemRequest itemRequest, List<ItemDto> suggestions);
 
     @Mapping(target = "items", expression = "java(items)")
+    @Mapping(target = "suggestions", ignore = true)
     ItemRequestExtendedDto toItemRequestExtendedDto(ItemRequest itemRequest, List<ItemDto> items);
+
+    @Mapping(target = "items", expression = "java(items)")
+    @Mapping(target = "suggestions", expression = "java(suggestions)")
+    ItemRequestExtendedDto toItemRequestExtendedDto(ItemRequest itemRequest, List<ItemDto> items,
+                                                    List<ItemDto> suggestions);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.request;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.request.suggestions")
+public class ItemSuggestionProperties {
+    private int limit = 10;
+    private int maxQueryTokens = 16;
+    private int maxTokenItems = 10_000;
+}
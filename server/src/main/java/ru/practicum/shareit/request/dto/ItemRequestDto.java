@@ -5,9 +5,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.item.dto.ItemDto;
 
 import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
@@ -19,4 +21,5 @@ public class ItemRequestDto {
     String description;
     Long requester;
     LocalDateTime created;
+    List<ItemDto> suggestions;
 }
\ No newline at end of file
@@ -21,4 +21,5 @@ public class ItemRequestExtendedDto {
     String description;
     LocalDateTime created;
     List<ItemDto> items;
+    List<ItemDto> suggestions;
 }
\ No newline at end of file
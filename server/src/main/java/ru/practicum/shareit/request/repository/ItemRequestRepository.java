@@ -3,12 +3,33 @@ package ru.practicum.shareit.request.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES;
+
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
     List<ItemRequest> findByRequesterId_IdOrderByCreatedAsc(Long id);
 
     Page<ItemRequest> findByRequesterId_IdNot(Long userId, Pageable pageable);
+
+    @Query("SELECT r.id FROM ItemRequest r WHERE r.id IN ?1")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "request_suggestions"))
+    @Query(value = "INSERT INTO request_suggestions (request_id, item_id, score) " +
+            "SELECT ?1, t.item_id, SUM(t.weight) " +
+            "FROM item_tokens t JOIN items i ON i.id = t.item_id " +
+            "WHERE t.token IN ?3 AND i.owner_id <> ?2 AND i.available " +
+            "GROUP BY t.item_id " +
+            "ORDER BY SUM(t.weight) DESC, t.item_id " +
+            "LIMIT ?4", nativeQuery = true)
+    int insertSuggestions(Long requestId, Long requesterId, Collection<String> tokens, int limit);
 }
\ No newline at end of file
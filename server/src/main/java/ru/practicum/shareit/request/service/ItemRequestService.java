@@ -12,7 +12,11 @@ public interface ItemRequestService {
 
     ItemRequestExtendedDto getById(Long userId, Long id);
 
+    String getVersionTag(Long userId, Long id);
+
     List<ItemRequestExtendedDto> getByRequesterId(Long userId);
 
     List<ItemRequestExtendedDto> getAll(Long userId, Pageable pageable);
+
+    String getAllVersionTag(Long userId, Pageable pageable);
 }
\ No newline at end of file
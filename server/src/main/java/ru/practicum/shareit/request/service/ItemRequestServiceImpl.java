@@ -3,17 +3,24 @@ package ru.practicum.shareit.request.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.etag.EntityTags;
+import ru.practicum.shareit.etag.VersionStampDto;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemTokenRepository;
+import ru.practicum.shareit.item.search.ItemTokenIndex;
 import ru.practicum.shareit.request.dto.ItemRequestAddDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestExtendedDto;
 import ru.practicum.shareit.request.ItemRequestMapper;
+import ru.practicum.shareit.request.ItemSuggestionProperties;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -29,35 +36,63 @@ import java.util.stream.Collectors;
 @Slf4j
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
+@EnableConfigurationProperties(ItemSuggestionProperties.class)
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final UserService userService;
     private final ItemRequestRepository itemRequestRepository;
     private final ItemRequestMapper itemRequestMapper;
     private final ItemMapper itemMapper;
     private final ItemRepository itemRepository;
+    private final ItemTokenRepository itemTokenRepository;
+    private final ItemSuggestionProperties suggestionProperties;
 
     @Override
     @Transactional
     public ItemRequestDto add(Long userId, ItemRequestAddDto itemRequestCreateDto) {
 
         User user = userService.getUserById(userId);
-        ItemRequest itemRequest = itemRequestMapper.toItemRequest(itemRequestCreateDto, user, LocalDateTime.now());
-
-        return itemRequestMapper.toItemRequestDto(itemRequestRepository.save(itemRequest));
+        ItemRequest itemRequest = itemRequestRepository.save(
+                itemRequestMapper.toItemRequest(itemRequestCreateDto, user, LocalDateTime.now()));
+
+        List<String> tokens = ItemTokenIndex.tokenize(itemRequest.getDescription()).stream()
+                .limit(suggestionProperties.getMaxQueryTokens())
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (!tokens.isEmpty()) {
+            tokens.removeAll(itemTokenRepository.findTokensInMoreItemsThan(tokens,
+                    suggestionProperties.getMaxTokenItems()));
+        }
+        if (!tokens.isEmpty()) {
+            itemRequestRepository.insertSuggestions(itemRequest.getId(), userId, tokens,
+                    suggestionProperties.getLimit());
+        }
+        return itemRequestMapper.toItemRequestDto(itemRequest, toItemDtos(
+                itemRepository.findSuggestedByRequestId(itemRequest.getId())));
     }
 
     @Override
     public ItemRequestExtendedDto getById(Long userId, Long id) {
 
         userService.getUserById(userId);
-        ItemRequest itemRequest = itemRequestRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Запроса вещи с таким id не существует."));
+        ItemRequest itemRequest = getItemRequestById(id);
 
         List<ItemDto> items = itemRepository.findByRequestId(itemRequest.getId())
                 .stream().map(itemMapper::toItemDto)
                 .collect(Collectors.toList());
 
-        return itemRequestMapper.toItemRequestExtendedDto(itemRequest, items);
+        return itemRequestMapper.toItemRequestExtendedDto(itemRequest, items,
+                toItemDtos(itemRepository.findSuggestedByRequestId(itemRequest.getId())));
+    }
+
+    @Override
+    public String getVersionTag(Long userId, Long id) {
+
+        userService.getUserById(userId);
+        ItemRequest itemRequest = getItemRequestById(id);
+
+        VersionStampDto suggested = itemRepository.findSuggestedStampByRequestId(itemRequest.getId());
+        return EntityTags.of(itemRepository.findStampByRequestIdIn(List.of(itemRequest.getId())),
+                "request", itemRequest.getId(),
+                suggested.getTotal(), suggested.getMaxId(), suggested.getVersionSum());
     }
 
     @Override
@@ -111,4 +146,24 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                         itemDtosForRequestId.get(itemRequest.getId())))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    @Override
+    public String getAllVersionTag(Long userId, Pageable pageable) {
+
+        userService.getUserById(userId);
+        List<Long> itemRequestIds = itemRequestRepository.findByRequesterId_IdNot(userId, pageable)
+                .stream().map(ItemRequest::getId).collect(Collectors.toList());
+        return itemRequestIds.isEmpty()
+                ? EntityTags.of("requests", userId)
+                : EntityTags.of(itemRepository.findStampByRequestIdIn(itemRequestIds), "requests", userId, itemRequestIds);
+    }
+
+    private ItemRequest getItemRequestById(Long id) {
+        return itemRequestRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Запроса вещи с таким id не существует."));
+    }
+
+    private List<ItemDto> toItemDtos(List<Item> items) {
+        return items.stream().map(itemMapper::toItemDto).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.sql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+
+class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        entityManager.setProperty(AvailableSettings.JPA_SHARED_CACHE_STORE_MODE,
+                definition.isReadOnly() ? CacheStoreMode.BYPASS : CacheStoreMode.USE);
+        return super.beginTransaction(entityManager, definition);
+    }
+}
@@ -0,0 +1,167 @@
+package ru.practicum.shareit.sql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-checker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaDataSources,
+                                    ReplicaProperties properties) {
+        this.primary = primary;
+        this.replicas = replicaDataSources.stream().map(Replica::new).collect(Collectors.toList());
+        this.maxLag = properties.getMaxLag();
+        this.checkInterval = properties.getCheckInterval();
+        this.lagQuery = properties.getLagQuery();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+        checker.scheduleWithFixedDelay(this::checkReplicas,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        checker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = chooseReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            replica.markUnavailable(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Replica replica = chooseReplica();
+        return replica == null ? PRIMARY : replica.name;
+    }
+
+    public List<HikariDataSource> getReplicaDataSources() {
+        return replicas.stream().map(replica -> replica.dataSource).collect(Collectors.toList());
+    }
+
+    public Map<String, Object> getReplicaStates() {
+        Map<String, Object> states = new LinkedHashMap<>();
+        replicas.forEach(replica -> states.put(replica.name, Map.of(
+                "available", replica.available,
+                "lagMillis", replica.lagMillis)));
+        return states;
+    }
+
+    private Replica chooseReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.available) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void checkReplicas() {
+        replicas.forEach(replica -> {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                long lagMillis = measureLag(connection);
+                replica.lagMillis = lagMillis;
+                if (lagMillis > maxLag.toMillis()) {
+                    if (replica.available) {
+                        log.warn("Реплика {} отстаёт на {} мс, чтение переведено на основную базу.",
+                                replica.name, lagMillis);
+                    }
+                    replica.available = false;
+                } else {
+                    if (!replica.available) {
+                        log.info("Реплика {} снова доступна для чтения, отставание {} мс.", replica.name, lagMillis);
+                    }
+                    replica.available = true;
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markUnavailable(e);
+            }
+        });
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? Math.round(resultSet.getDouble(1) * 1000) : 0;
+        }
+    }
+
+    private static final class Replica {
+        final String name;
+        final HikariDataSource dataSource;
+        volatile boolean available = true;
+        volatile long lagMillis;
+
+        Replica(HikariDataSource dataSource) {
+            this.name = dataSource.getPoolName();
+            this.dataSource = dataSource;
+        }
+
+        void markUnavailable(Exception e) {
+            if (available) {
+                log.warn("Реплика {} недоступна, чтение переведено на основную базу: {}", name, e.getMessage());
+            }
+            available = false;
+        }
+    }
+}
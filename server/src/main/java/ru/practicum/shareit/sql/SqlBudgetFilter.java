@@ -0,0 +1,109 @@
+package ru.practicum.shareit.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.markers.Constants;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    private final SqlStatementCounter counter;
+    private final SqlBudgetProperties properties;
+    private final DistributionSummary statementsPerRequest;
+    private final Counter overBudget;
+
+    public SqlBudgetFilter(SqlStatementCounter counter, SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.counter = counter;
+        this.properties = properties;
+        this.statementsPerRequest = DistributionSummary.builder("shareit.sql.statements.per.request")
+                .register(meterRegistry);
+        this.overBudget = Counter.builder("shareit.sql.budget.exceeded")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        counter.begin();
+        StatementCountResponse wrapper = properties.isExposeHeader()
+                ? new StatementCountResponse(response, counter.current())
+                : null;
+        SqlStatementCounter.Statements statements;
+        try {
+            chain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            statements = counter.end();
+        }
+        statementsPerRequest.record(statements.getCount());
+        if (statements.getCount() > properties.getMaxStatements()) {
+            overBudget.increment();
+            log.warn("Запрос {} {} выполнил {} SQL-запросов при лимите {}:\n{}",
+                    request.getMethod(), request.getRequestURI(), statements.getCount(), properties.getMaxStatements(),
+                    statements.getCountsBySql().entrySet().stream()
+                            .map(entry -> entry.getValue() + " x " + entry.getKey())
+                            .collect(Collectors.joining("\n")));
+        }
+        if (wrapper != null) {
+            wrapper.exposeCount();
+        }
+    }
+
+    private static class StatementCountResponse extends HttpServletResponseWrapper {
+        private final SqlStatementCounter.Statements statements;
+        private boolean exposed;
+
+        StatementCountResponse(HttpServletResponse response, SqlStatementCounter.Statements statements) {
+            super(response);
+            this.statements = statements;
+        }
+
+        void exposeCount() {
+            if (!exposed && !isCommitted()) {
+                setHeader(Constants.HEADER_SQL_STATEMENT_COUNT, String.valueOf(statements.getCount()));
+            }
+            exposed = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            exposeCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            exposeCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            exposeCount();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            exposeCount();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            exposeCount();
+            super.sendError(sc);
+        }
+    }
+}
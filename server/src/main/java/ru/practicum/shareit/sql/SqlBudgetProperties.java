@@ -0,0 +1,14 @@
+package ru.practicum.shareit.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.sql-budget")
+public class SqlBudgetProperties {
+    private boolean enabled = true;
+    private int maxStatements = 10;
+    private boolean exposeHeader = false;
+}
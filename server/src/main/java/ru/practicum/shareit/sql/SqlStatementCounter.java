@@ -0,0 +1,61 @@
+package ru.practicum.shareit.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SqlStatementCounter implements QueryExecutionListener {
+    private static final int MAX_DISTINCT_STATEMENTS = 100;
+
+    private final ThreadLocal<Statements> current = new ThreadLocal<>();
+
+    public void begin() {
+        current.set(new Statements());
+    }
+
+    public Statements current() {
+        return current.get();
+    }
+
+    public Statements end() {
+        Statements statements = current.get();
+        current.remove();
+        return statements;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Statements statements = current.get();
+        if (statements != null) {
+            queryInfoList.forEach(queryInfo -> statements.add(queryInfo.getQuery()));
+        }
+    }
+
+    public static class Statements {
+        private final Map<String, Integer> countsBySql = new LinkedHashMap<>();
+        private int count;
+
+        private void add(String sql) {
+            count++;
+            if (countsBySql.size() < MAX_DISTINCT_STATEMENTS || countsBySql.containsKey(sql)) {
+                countsBySql.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public Map<String, Integer> getCountsBySql() {
+            return countsBySql;
+        }
+    }
+}
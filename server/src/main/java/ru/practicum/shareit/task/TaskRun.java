@@ -0,0 +1,41 @@
+package ru.practicum.shareit.task;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "task_runs", schema = "public")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TaskRun {
+    @Id
+    @Column(name = "name")
+    String name;
+
+    @Column(name = "last_run", nullable = false)
+    LocalDateTime lastRun;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaskRun)) return false;
+        return name != null && name.equals(((TaskRun) o).getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name);
+    }
+}
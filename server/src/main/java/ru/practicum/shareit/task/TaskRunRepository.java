@@ -0,0 +1,14 @@
+package ru.practicum.shareit.task;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface TaskRunRepository extends JpaRepository<TaskRun, String> {
+
+    @Modifying
+    @Query("update TaskRun t set t.lastRun = :now where t.name = :name and t.lastRun <= :dueBefore")
+    int claim(String name, LocalDateTime now, LocalDateTime dueBefore);
+}
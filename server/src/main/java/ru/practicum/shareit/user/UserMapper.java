@@ -1,6 +1,7 @@
 package ru.practicum.shareit.user.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
@@ -8,5 +9,7 @@ import ru.practicum.shareit.user.model.User;
 public interface UserMapper {
     UserDto toUserDto(User user);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toUser(UserDto userDto);
 }
\ No newline at end of file
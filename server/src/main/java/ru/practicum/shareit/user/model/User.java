@@ -2,11 +2,16 @@ package ru.practicum.shareit.user.model;
 
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import ru.practicum.shareit.markers.Constants;
 
 import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.USERS_CACHE)
 @Getter
 @Setter
 @ToString
@@ -25,6 +30,10 @@ public class User {
     @Column(name = "email",nullable = false)
     String email;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    Long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -4,7 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.service.BookingAvailabilityIndex;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.outbox.DomainEventPublisher;
+import ru.practicum.shareit.outbox.EventType;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
@@ -19,12 +24,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
     private final UserMapper userMapper;
+    private final BookingAvailabilityIndex bookingAvailabilityIndex;
+    private final ItemSearchEngine itemSearchEngine;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Override
     @Transactional
     public UserDto add(UserDto userDto) {
-        return userMapper.toUserDto(userRepository.save(userMapper.toUser(userDto)));
+        UserDto created = userMapper.toUserDto(userRepository.save(userMapper.toUser(userDto)));
+        domainEventPublisher.publish(EventType.USER_CREATED, created.getId(), created);
+        return created;
     }
 
     @Override
@@ -38,7 +49,9 @@ public class UserServiceImpl implements UserService {
         if (userDto.getName() != null) {
             repoUser.setName(userDto.getName());
         }
-        return userMapper.toUserDto(userRepository.save(repoUser));
+        UserDto updated = userMapper.toUserDto(userRepository.save(repoUser));
+        domainEventPublisher.publish(EventType.USER_UPDATED, id, updated);
+        return updated;
     }
 
     @Override
@@ -60,6 +73,10 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void delete(Long id) {
+        bookingAvailabilityIndex.evictUser(id);
+        itemSearchEngine.removeByOwner(id);
+        itemRepository.deleteByOwnerId(id);
         userRepository.deleteById(id);
+        domainEventPublisher.publish(EventType.USER_DELETED, id, null);
     }
 }
\ No newline at end of file
@@ -1,14 +1,16 @@
-DROP TABLE IF EXISTS bookings, items, requests, users, comments;
+CREATE SEQUENCE items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE bookings_seq START WITH 1 INCREMENT BY 50;
 
-CREATE TABLE IF NOT EXISTS users
+CREATE TABLE users
 (
-    id    BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
-    name  VARCHAR(255) NOT NULL,
-    email VARCHAR(512) NOT NULL,
+    id      BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    name    VARCHAR(255) NOT NULL,
+    email   VARCHAR(512) NOT NULL,
+    version BIGINT       NOT NULL DEFAULT 0,
     CONSTRAINT UQ_USER_EMAIL UNIQUE (email)
 );
 
-CREATE TABLE IF NOT EXISTS request
+CREATE TABLE request
 (
     id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
     description  VARCHAR(1024) NOT NULL,
@@ -17,19 +19,20 @@ CREATE TABLE IF NOT EXISTS request
     CONSTRAINT pk_request PRIMARY KEY (id)
 );
 
-CREATE TABLE IF NOT EXISTS items
+CREATE TABLE items
 (
-    id          BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id          BIGINT DEFAULT nextval('items_seq') PRIMARY KEY,
     name        VARCHAR(255)  NOT NULL,
     description VARCHAR(1024) NOT NULL,
     available   BOOLEAN       NOT NULL,
     owner_id    BIGINT NOT NULL REFERENCES users (id) ON DELETE CASCADE,
-    request_id  BIGINT REFERENCES request (id) ON DELETE CASCADE
+    request_id  BIGINT REFERENCES request (id) ON DELETE CASCADE,
+    version     BIGINT        NOT NULL DEFAULT 0
 );
 
-CREATE TABLE IF NOT EXISTS bookings
+CREATE TABLE bookings
 (
-    id         BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    id         BIGINT DEFAULT nextval('bookings_seq') PRIMARY KEY,
     start_date TIMESTAMP NOT NULL,
     end_date   TIMESTAMP WITHOUT TIME ZONE,
     item_id    BIGINT NOT NULL REFERENCES items (id) ON DELETE CASCADE,
@@ -37,7 +40,7 @@ CREATE TABLE IF NOT EXISTS bookings
     status     VARCHAR(128)
 );
 
-CREATE TABLE IF NOT EXISTS comments
+CREATE TABLE comments
 (
     id           BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
     text         VARCHAR(4096) NOT NULL,
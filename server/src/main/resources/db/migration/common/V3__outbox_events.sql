@@ -0,0 +1,11 @@
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events
+(
+    id           BIGINT DEFAULT nextval('outbox_events_seq') PRIMARY KEY,
+    event_type   VARCHAR(64)   NOT NULL,
+    aggregate_id BIGINT        NOT NULL,
+    payload      VARCHAR(4096),
+    created      TIMESTAMP     NOT NULL,
+    attempts     INT           NOT NULL DEFAULT 0
+);
@@ -0,0 +1,10 @@
+CREATE TABLE owner_booking_summary
+(
+    owner_id       BIGINT PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    waiting_count  BIGINT    NOT NULL DEFAULT 0,
+    approved_count BIGINT    NOT NULL DEFAULT 0,
+    rejected_count BIGINT    NOT NULL DEFAULT 0,
+    upcoming_count BIGINT    NOT NULL DEFAULT 0,
+    current_count  BIGINT    NOT NULL DEFAULT 0,
+    reconciled     TIMESTAMP NOT NULL
+);
@@ -0,0 +1,19 @@
+CREATE TABLE item_tokens
+(
+    token   VARCHAR(64) NOT NULL,
+    item_id BIGINT      NOT NULL REFERENCES items (id) ON DELETE CASCADE,
+    weight  INT         NOT NULL,
+    CONSTRAINT pk_item_tokens PRIMARY KEY (token, item_id)
+);
+
+CREATE INDEX item_tokens_item_idx ON item_tokens (item_id);
+
+CREATE TABLE request_suggestions
+(
+    request_id BIGINT NOT NULL REFERENCES request (id) ON DELETE CASCADE,
+    item_id    BIGINT NOT NULL REFERENCES items (id) ON DELETE CASCADE,
+    score      INT    NOT NULL,
+    CONSTRAINT pk_request_suggestions PRIMARY KEY (request_id, item_id)
+);
+
+CREATE INDEX request_suggestions_item_idx ON request_suggestions (item_id);
@@ -0,0 +1,8 @@
+CREATE TABLE task_runs
+(
+    name     VARCHAR(64) PRIMARY KEY,
+    last_run TIMESTAMP   NOT NULL
+);
+
+INSERT INTO task_runs (name, last_run)
+VALUES ('booking-summary-reconcile', TIMESTAMP '1970-01-01 00:00:00');
@@ -0,0 +1,11 @@
+CREATE INDEX bookings_booker_start_idx ON bookings (booker_id, start_date DESC, id DESC);
+CREATE INDEX bookings_booker_status_start_idx ON bookings (booker_id, status, start_date DESC, id DESC);
+CREATE INDEX bookings_item_status_start_idx ON bookings (item_id, status, start_date, id);
+
+CREATE INDEX items_owner_idx ON items (owner_id, id);
+CREATE INDEX items_request_idx ON items (request_id);
+
+CREATE INDEX comments_item_idx ON comments (item_id);
+CREATE INDEX comments_author_idx ON comments (author_id);
+
+CREATE INDEX request_requester_created_idx ON request (requester_id, created);
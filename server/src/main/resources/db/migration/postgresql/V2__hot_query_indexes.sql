@@ -0,0 +1,19 @@
+DROP INDEX CONCURRENTLY IF EXISTS bookings_booker_start_idx;
+CREATE INDEX CONCURRENTLY bookings_booker_start_idx ON bookings (booker_id, start_date DESC, id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS bookings_booker_status_start_idx;
+CREATE INDEX CONCURRENTLY bookings_booker_status_start_idx ON bookings (booker_id, status, start_date DESC, id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS bookings_item_status_start_idx;
+CREATE INDEX CONCURRENTLY bookings_item_status_start_idx ON bookings (item_id, status, start_date, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS items_owner_idx;
+CREATE INDEX CONCURRENTLY items_owner_idx ON items (owner_id, id);
+DROP INDEX CONCURRENTLY IF EXISTS items_request_idx;
+CREATE INDEX CONCURRENTLY items_request_idx ON items (request_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS comments_item_idx;
+CREATE INDEX CONCURRENTLY comments_item_idx ON comments (item_id);
+DROP INDEX CONCURRENTLY IF EXISTS comments_author_idx;
+CREATE INDEX CONCURRENTLY comments_author_idx ON comments (author_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS request_requester_created_idx;
+CREATE INDEX CONCURRENTLY request_requester_created_idx ON request (requester_id, created);
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.batch.BatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.exception.BookingException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class BookingApprovalTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingAvailabilityIndex bookingAvailabilityIndex;
+
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+    private LocalDateTime start;
+    private Long bookingId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = addUser();
+        bookerId = addUser();
+        itemId = itemService.add(ownerId, ItemDto.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .build()).getId();
+        start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(1);
+        bookingId = bookingService.add(bookerId, booking(start, start.plusHours(2))).getId();
+    }
+
+    @Test
+    void secondAnswerIsRejected() {
+        bookingService.update(ownerId, bookingId, true);
+
+        assertThatThrownBy(() -> bookingService.update(ownerId, bookingId, false))
+                .isInstanceOf(BookingException.class);
+        assertThat(bookingService.getById(ownerId, bookingId).getStatus()).isEqualTo(Status.APPROVED);
+    }
+
+    @Test
+    void concurrentAnswersLetOnlyOneWin() throws Exception {
+        for (int round = 0; round < 10; round++) {
+            if (round > 0) {
+                setUp();
+            }
+            List<Object> outcomes = race(
+                    () -> bookingService.update(ownerId, bookingId, true),
+                    () -> bookingService.update(ownerId, bookingId, true),
+                    () -> bookingService.update(ownerId, bookingId, false));
+
+            List<BookingResponseDto> winners = new ArrayList<>();
+            for (Object outcome : outcomes) {
+                if (outcome instanceof BookingResponseDto) {
+                    winners.add((BookingResponseDto) outcome);
+                } else {
+                    assertThat(outcome).isInstanceOf(BookingException.class);
+                }
+            }
+            assertThat(winners).hasSize(1);
+            assertThat(bookingService.getById(ownerId, bookingId).getStatus())
+                    .isEqualTo(winners.get(0).getStatus());
+        }
+    }
+
+    @Test
+    void staleIndexDoesNotLetBookingsOverApprovedOnes() {
+        bookingService.update(ownerId, bookingId, true);
+        bookingAvailabilityIndex.evictItem(itemId);
+
+        assertThatThrownBy(() -> bookingService.add(bookerId, booking(start.plusHours(1), start.plusHours(3))))
+                .isInstanceOf(BookingException.class);
+        assertThat(bookingService.addBatch(bookerId, List.of(
+                booking(start.plusHours(1), start.plusHours(3)),
+                booking(start.plusHours(2), start.plusHours(3)))))
+                .extracting(BatchResultDto::getError)
+                .containsExactly("Предмет недоступен для брони. В это время его еще кто-то использует!", null);
+    }
+
+    private BookingRequestDto booking(LocalDateTime start, LocalDateTime end) {
+        return BookingRequestDto.builder()
+                .itemId(itemId)
+                .start(start)
+                .end(end)
+                .build();
+    }
+
+    @SafeVarargs
+    private List<Object> race(Callable<BookingResponseDto>... calls) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.length);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<BookingResponseDto>> futures = new ArrayList<>();
+            for (Callable<BookingResponseDto> call : calls) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<BookingResponseDto> future : futures) {
+                try {
+                    outcomes.add(future.get());
+                } catch (ExecutionException e) {
+                    outcomes.add(e.getCause());
+                }
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long addUser() {
+        String name = UUID.randomUUID().toString();
+        return userService.add(UserDto.builder().name("user").email(name + "@test.ru").build()).getId();
+    }
+}
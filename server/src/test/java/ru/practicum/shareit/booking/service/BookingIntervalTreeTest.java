@@ -0,0 +1,80 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingIntervalTreeTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    void emptyTreeOverlapsNothing() {
+        assertThat(new BookingIntervalTree().overlaps(at(0), at(100))).isFalse();
+    }
+
+    @Test
+    void intervalsAreHalfOpen() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        tree.insert(1, at(10), at(20));
+
+        assertThat(tree.overlaps(at(20), at(30))).as("начало в момент окончания").isFalse();
+        assertThat(tree.overlaps(at(0), at(10))).as("окончание в момент начала").isFalse();
+        assertThat(tree.overlaps(at(19), at(30))).isTrue();
+        assertThat(tree.overlaps(at(0), at(11))).isTrue();
+        assertThat(tree.overlaps(at(12), at(18))).as("внутри").isTrue();
+        assertThat(tree.overlaps(at(5), at(25))).as("снаружи").isTrue();
+        assertThat(tree.overlaps(at(10), at(20))).as("совпадает").isTrue();
+    }
+
+    @Test
+    void gapBetweenBookingsIsFree() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        tree.insert(1, at(0), at(10));
+        tree.insert(2, at(20), at(30));
+        tree.insert(3, at(10), at(12));
+
+        assertThat(tree.overlaps(at(12), at(20))).isFalse();
+        assertThat(tree.overlaps(at(11), at(20))).isTrue();
+        assertThat(tree.overlaps(at(12), at(21))).isTrue();
+    }
+
+    @Test
+    void reinsertingBookingDoesNotDuplicateIt() {
+        BookingIntervalTree tree = new BookingIntervalTree();
+        tree.insert(1, at(10), at(20));
+        tree.insert(1, at(10), at(20));
+        tree.insert(2, at(10), at(15));
+
+        assertThat(tree.overlaps(at(16), at(18))).isTrue();
+        assertThat(tree.overlaps(at(20), at(25))).isFalse();
+    }
+
+    @Test
+    void agreesWithLinearScan() {
+        Random random = new Random(42);
+        BookingIntervalTree tree = new BookingIntervalTree();
+        List<long[]> intervals = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(50);
+            tree.insert(id, at(start), at(end));
+            intervals.add(new long[]{start, end});
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            long start = random.nextInt(10_100);
+            long end = start + 1 + random.nextInt(30);
+            boolean expected = intervals.stream().anyMatch(interval -> interval[0] < end && interval[1] > start);
+            assertThat(tree.overlaps(at(start), at(end))).as("[%d, %d)", start, end).isEqualTo(expected);
+        }
+    }
+
+    private static LocalDateTime at(long minutes) {
+        return BASE.plusMinutes(minutes);
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.enums.State;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.sql.SqlStatementCounter;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingListingStatementCountTest {
+    private static final int BOOKINGS = 5;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private SqlStatementCounter counter;
+
+    private Long ownerId;
+    private Long bookerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = addUser();
+        bookerId = addUser();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < BOOKINGS; i++) {
+            ItemDto item = itemService.add(ownerId, ItemDto.builder()
+                    .name("Вещь " + i)
+                    .description("Описание " + i)
+                    .available(true)
+                    .build());
+            bookingService.add(bookerId, BookingRequestDto.builder()
+                    .itemId(item.getId())
+                    .start(start.plusDays(i))
+                    .end(start.plusDays(i).plusHours(1))
+                    .build());
+        }
+    }
+
+    @Test
+    void bookerListingCostDoesNotGrowWithPageSize() {
+        assertThat(count(() -> assertThat(bookingService.getAllByBookerId(bookerId, State.ALL,
+                PageRequest.of(0, BOOKINGS))).hasSize(BOOKINGS)))
+                .isEqualTo(count(() -> bookingService.getAllByBookerId(bookerId, State.ALL, PageRequest.of(0, 1))));
+        assertThat(count(() -> assertThat(bookingService.getPageByBookerId(bookerId, State.ALL,
+                BookingCursor.FIRST, BOOKINGS).getBookings()).hasSize(BOOKINGS)))
+                .isEqualTo(count(() -> bookingService.getPageByBookerId(bookerId, State.ALL,
+                        BookingCursor.FIRST, 1)));
+    }
+
+    @Test
+    void ownerListingCostDoesNotGrowWithPageSize() {
+        assertThat(count(() -> assertThat(bookingService.getAllByOwnerId(ownerId, State.ALL,
+                PageRequest.of(0, BOOKINGS))).hasSize(BOOKINGS)))
+                .isEqualTo(count(() -> bookingService.getAllByOwnerId(ownerId, State.ALL, PageRequest.of(0, 1))));
+        assertThat(count(() -> assertThat(bookingService.getPageByOwnerId(ownerId, State.ALL,
+                BookingCursor.FIRST, BOOKINGS).getBookings()).hasSize(BOOKINGS)))
+                .isEqualTo(count(() -> bookingService.getPageByOwnerId(ownerId, State.ALL,
+                        BookingCursor.FIRST, 1)));
+    }
+
+    private int count(Runnable action) {
+        action.run();
+        counter.begin();
+        try {
+            action.run();
+            return counter.current().getCount();
+        } finally {
+            counter.end();
+        }
+    }
+
+    private Long addUser() {
+        String name = UUID.randomUUID().toString();
+        return userService.add(UserDto.builder().name("user").email(name + "@test.ru").build()).getId();
+    }
+}
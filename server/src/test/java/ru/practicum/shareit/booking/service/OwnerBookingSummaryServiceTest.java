@@ -0,0 +1,167 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.model.OwnerBookingSummary;
+import ru.practicum.shareit.booking.repository.OwnerBookingSummaryRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.outbox.DomainEvent;
+import ru.practicum.shareit.outbox.DomainEventListener;
+import ru.practicum.shareit.outbox.EventType;
+import ru.practicum.shareit.outbox.OutboxEventRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:owner-booking-summary",
+        "shareit.outbox.poll-interval=50ms",
+        "shareit.outbox.max-attempts=1000000"
+})
+class OwnerBookingSummaryServiceTest {
+    private static final Set<EventType> BOOKING_EVENTS =
+            EnumSet.of(EventType.BOOKING_CREATED, EventType.BOOKING_APPROVED, EventType.BOOKING_REJECTED);
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private OwnerBookingSummaryService summaryService;
+    @Autowired
+    private OwnerBookingSummaryRepository summaryRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private SwitchableListener listener;
+
+    private Long ownerId;
+    private Long itemId;
+    private Long bookerId;
+
+    @BeforeEach
+    void setUp() {
+        listener.failing.set(false);
+        ownerId = addUser();
+        bookerId = addUser();
+        itemId = itemService.add(ownerId, ItemDto.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .build()).getId();
+    }
+
+    @Test
+    void deltasFollowBookingAnswers() throws InterruptedException {
+        Long approvedId = addBooking(1);
+        Long rejectedId = addBooking(2);
+        Long waitingId = addBooking(3);
+        bookingService.update(ownerId, approvedId, true);
+        bookingService.update(ownerId, rejectedId, false);
+
+        awaitDelivered(approvedId, rejectedId, waitingId);
+
+        assertCounts(summaryService.getByOwnerId(ownerId), 1, 1, 1, 3, 0);
+    }
+
+    @Test
+    void rebuildRepairsDriftWhileEventsArePending() throws InterruptedException {
+        summaryRepository.save(OwnerBookingSummary.builder()
+                .ownerId(ownerId)
+                .waiting(42)
+                .reconciled(LocalDateTime.now())
+                .build());
+        listener.failing.set(true);
+        Long approvedId = addBooking(1);
+        Long waitingId = addBooking(2);
+        bookingService.update(ownerId, approvedId, true);
+
+        summaryService.rebuild();
+        listener.failing.set(false);
+        awaitDelivered(approvedId, waitingId);
+
+        assertCounts(summaryService.getByOwnerId(ownerId), 1, 1, 0, 2, 0);
+    }
+
+    @Test
+    void deltasOfDeletedOwnerAreDropped() throws InterruptedException {
+        listener.failing.set(true);
+        Long bookingId = addBooking(1);
+        userService.delete(ownerId);
+        listener.failing.set(false);
+
+        awaitDelivered(bookingId);
+
+        assertThat(summaryRepository.findById(ownerId)).isEmpty();
+    }
+
+    private static void assertCounts(OwnerBookingSummary summary, long waiting, long approved, long rejected,
+                                     long upcoming, long current) {
+        assertThat(summary.getWaiting()).as("waiting").isEqualTo(waiting);
+        assertThat(summary.getApproved()).as("approved").isEqualTo(approved);
+        assertThat(summary.getRejected()).as("rejected").isEqualTo(rejected);
+        assertThat(summary.getUpcoming()).as("upcoming").isEqualTo(upcoming);
+        assertThat(summary.getCurrent()).as("current").isEqualTo(current);
+    }
+
+    private void awaitDelivered(Long... bookingIds) throws InterruptedException {
+        List<Long> ids = List.of(bookingIds);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (outboxEventRepository.findByTypeInAndAttemptsLessThan(BOOKING_EVENTS, Integer.MAX_VALUE).stream()
+                .anyMatch(event -> ids.contains(event.getAggregateId()))) {
+            assertThat(System.currentTimeMillis()).as("ожидание доставки событий").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private Long addBooking(int day) {
+        LocalDateTime start = LocalDateTime.now().plusDays(day);
+        return bookingService.add(bookerId, BookingRequestDto.builder()
+                .itemId(itemId)
+                .start(start)
+                .end(start.plusHours(2))
+                .build()).getId();
+    }
+
+    private Long addUser() {
+        return userService.add(UserDto.builder()
+                .name("user")
+                .email(UUID.randomUUID() + "@test.ru")
+                .build()).getId();
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        SwitchableListener switchableListener() {
+            return new SwitchableListener();
+        }
+    }
+
+    static class SwitchableListener implements DomainEventListener {
+        final AtomicBoolean failing = new AtomicBoolean();
+
+        @Override
+        public void onEvents(List<DomainEvent> events) {
+            if (failing.get()) {
+                throw new IllegalStateException("Доставка событий временно недоступна.");
+            }
+        }
+    }
+}
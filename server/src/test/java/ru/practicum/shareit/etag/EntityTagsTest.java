@@ -0,0 +1,125 @@
+package ru.practicum.shareit.etag;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.markers.Constants;
+import ru.practicum.shareit.request.dto.ItemRequestAddDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EntityTagsTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Test
+    void itemIsNotSentAgainUntilItChanges() throws Exception {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId, null);
+        String path = "/items/" + itemId;
+        String etag = etagOf(path, ownerId);
+
+        mockMvc.perform(get(path).header(Constants.HEADER_USER_ID, ownerId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        itemService.update(ownerId, itemId, ItemDto.builder().description("Новая дрель").build());
+
+        mockMvc.perform(get(path).header(Constants.HEADER_USER_ID, ownerId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertThat(etagOf(path, ownerId)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void requestTagFollowsItsAnswers() throws Exception {
+        Long requesterId = addUser();
+        Long requestId = itemRequestService.add(requesterId,
+                ItemRequestAddDto.builder().description("Нужна стремянка").build()).getId();
+        String path = "/requests/" + requestId;
+        String etag = etagOf(path, requesterId);
+
+        mockMvc.perform(get(path).header(Constants.HEADER_USER_ID, requesterId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        addItem(addUser(), requestId);
+
+        mockMvc.perform(get(path).header(Constants.HEADER_USER_ID, requesterId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void stampPartsChangeTheTag() {
+        assertThat(EntityTags.of(stamp(2, 5, 3), "item", 1))
+                .isEqualTo(EntityTags.of(stamp(2, 5, 3), "item", 1))
+                .isNotEqualTo(EntityTags.of(stamp(2, 5, 4), "item", 1))
+                .isNotEqualTo(EntityTags.of(stamp(1, 5, 3), "item", 1))
+                .isNotEqualTo(EntityTags.of(stamp(2, 5, 3), "item", 2))
+                .startsWith("\"")
+                .endsWith("\"");
+    }
+
+    private String etagOf(String path, Long userId) throws Exception {
+        return mockMvc.perform(get(path).header(Constants.HEADER_USER_ID, userId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, Constants.HEADER_USER_ID))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static VersionStampDto stamp(long total, long maxId, long versionSum) {
+        return new VersionStampDto() {
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+
+            @Override
+            public Long getMaxId() {
+                return maxId;
+            }
+
+            @Override
+            public Long getVersionSum() {
+                return versionSum;
+            }
+        };
+    }
+
+    private Long addItem(Long ownerId, Long requestId) {
+        return itemService.add(ownerId, ItemDto.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .requestId(requestId)
+                .build()).getId();
+    }
+
+    private Long addUser() {
+        return userService.add(UserDto.builder()
+                .name("user")
+                .email(UUID.randomUUID() + "@test.ru")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.item.importer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemImportReaderTest {
+    private static final String HEADER = "ownerName,ownerEmail,name,description,available\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new ParameterNamesModule(JsonCreator.Mode.DEFAULT));
+
+    @Test
+    void quotedFieldsMaySpanLinesAndContainQuotes() throws IOException {
+        List<ItemImportRow> rows = readAll(ImportFormat.CSV, HEADER
+                + "Анна,anna@test.ru,Дрель,\"Ударная, \"\"Bosch\"\"\nс кейсом\",true\n"
+                + "Олег,oleg@test.ru,Пила,Ножовка,false\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getLine()).isEqualTo(2);
+        assertThat(rows.get(0).getItem().getDescription()).isEqualTo("Ударная, \"Bosch\"\nс кейсом");
+        assertThat(rows.get(0).getItem().getAvailable()).isTrue();
+        assertThat(rows.get(1).getLine()).isEqualTo(4);
+        assertThat(rows.get(1).getItem().getName()).isEqualTo("Пила");
+    }
+
+    @Test
+    void byteOrderMarkIsSkippedAndColumnsMayBeReordered() throws IOException {
+        List<ItemImportRow> rows = readAll(ImportFormat.CSV, "﻿name,available,description,ownerEmail,ownerName,requestId\n"
+                + "Палатка,true,Двухместная,anna@test.ru,Анна,7\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getItem().getName()).isEqualTo("Палатка");
+        assertThat(rows.get(0).getItem().getOwnerName()).isEqualTo("Анна");
+        assertThat(rows.get(0).getItem().getRequestId()).isEqualTo(7L);
+    }
+
+    @Test
+    void headerWithoutRequiredColumnsIsRejected() {
+        assertThatThrownBy(() -> readAll(ImportFormat.CSV, "ownerName,name,description\nАнна,Дрель,Ударная\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ownerEmail")
+                .hasMessageContaining("available");
+    }
+
+    @Test
+    void brokenRowsAreReportedByLine() throws IOException {
+        List<ItemImportRow> rows = readAll(ImportFormat.CSV, HEADER
+                + "Анна,anna@test.ru,Дрель\n"
+                + "Анна,anna@test.ru,Пила,Ножовка,наверное\n"
+                + "Анна,anna@test.ru,Лестница,\"Складная\n");
+
+        assertThat(rows).extracting(ItemImportRow::getLine).containsExactly(2L, 3L, 4L);
+        assertThat(rows).allSatisfy(row -> assertThat(row.getItem()).isNull());
+        assertThat(rows.get(0).getError()).isEqualTo("Ожидалось полей: 5, получено: 3");
+        assertThat(rows.get(1).getError()).startsWith("Некорректная строка: ");
+        assertThat(rows.get(2).getError()).isEqualTo("Незакрытые кавычки в строке.");
+    }
+
+    @Test
+    void ndjsonReportsBadLinesAndKeepsReading() throws IOException {
+        List<ItemImportRow> rows = readAll(ImportFormat.NDJSON, "﻿{\"ownerName\":\"Анна\",\"name\":\"Дрель\"}\n"
+                + "\n"
+                + "{\"ownerName\":\n"
+                + "{\"name\":\"Пила\",\"available\":false}\n");
+
+        assertThat(rows).extracting(ItemImportRow::getLine).containsExactly(1L, 3L, 4L);
+        assertThat(rows.get(0).getItem().getName()).isEqualTo("Дрель");
+        assertThat(rows.get(1).getError()).startsWith("Некорректная строка: ");
+        assertThat(rows.get(2).getItem().getAvailable()).isFalse();
+    }
+
+    private List<ItemImportRow> readAll(ImportFormat format, String body) throws IOException {
+        List<ItemImportRow> rows = new ArrayList<>();
+        try (ItemImportReader reader = new ItemImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            ItemImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
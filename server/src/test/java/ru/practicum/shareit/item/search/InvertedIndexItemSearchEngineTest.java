@@ -0,0 +1,78 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:inverted-index-search",
+        "shareit.search.engine=index"
+})
+class InvertedIndexItemSearchEngineTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+
+    @Test
+    void updatesReplaceTheOldTerms() {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId, "Стремянка", "Алюминиевая стремянка");
+
+        itemService.update(ownerId, itemId, ItemDto.builder().name("Лестница").description("Деревянная").build());
+
+        assertThat(search("стрем")).isEmpty();
+        assertThat(search("лестн")).containsExactly(itemId);
+
+        itemService.update(ownerId, itemId, ItemDto.builder().available(false).build());
+        assertThat(search("лестн")).isEmpty();
+
+        itemService.update(ownerId, itemId, ItemDto.builder().available(true).build());
+        assertThat(search("деревян")).containsExactly(itemId);
+    }
+
+    @Test
+    void deletedItemsAndOwnersLeaveTheIndex() {
+        Long ownerId = addUser();
+        Long keptId = addItem(ownerId, "Байдарка", "Двухместная байдарка");
+        Long deletedId = addItem(ownerId, "Байдарка", "Одноместная байдарка");
+
+        itemService.delete(deletedId);
+        assertThat(search("байдарка")).containsExactly(keptId);
+
+        userService.delete(ownerId);
+        assertThat(search("байдарка")).isEmpty();
+    }
+
+    private List<Long> search(String text) {
+        return itemService.search(text, PageRequest.of(0, 10)).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    private Long addItem(Long ownerId, String name, String description) {
+        return itemService.add(ownerId, ItemDto.builder()
+                .name(name)
+                .description(description)
+                .available(true)
+                .build()).getId();
+    }
+
+    private Long addUser() {
+        return userService.add(UserDto.builder()
+                .name("user")
+                .email(UUID.randomUUID() + "@test.ru")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.repository.ItemTokenRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.outbox.DomainEvent;
+import ru.practicum.shareit.outbox.EventType;
+import ru.practicum.shareit.outbox.OutboxEventRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ItemTokenIndexTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemTokenIndex itemTokenIndex;
+    @Autowired
+    private ItemTokenRepository itemTokenRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void lateEventIndexesCurrentItemState() throws InterruptedException {
+        Long ownerId = userService.add(UserDto.builder()
+                .name("owner")
+                .email(UUID.randomUUID() + "@test.ru")
+                .build()).getId();
+        Long itemId = itemService.add(ownerId, ItemDto.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .build()).getId();
+        itemService.update(ownerId, itemId, ItemDto.builder().name("Перфоратор").build());
+
+        apply(new DomainEvent(1L, EventType.ITEM_CREATED, itemId, null, LocalDateTime.now()));
+
+        assertThat(tokensOf(itemId)).containsExactlyInAnyOrder("перфоратор:2", "простая:1", "дрель:1");
+    }
+
+    @Test
+    void unavailableAndDeletedItemsLoseTheirTokens() throws InterruptedException {
+        Long ownerId = userService.add(UserDto.builder()
+                .name("owner")
+                .email(UUID.randomUUID() + "@test.ru")
+                .build()).getId();
+        Long hiddenId = itemService.add(ownerId, ItemDto.builder()
+                .name("Лестница")
+                .description("Складная")
+                .available(true)
+                .build()).getId();
+        Long deletedId = itemService.add(ownerId, ItemDto.builder()
+                .name("Палатка")
+                .description("Двухместная")
+                .available(true)
+                .build()).getId();
+        apply(new DomainEvent(1L, EventType.ITEM_CREATED, hiddenId, null, LocalDateTime.now()),
+                new DomainEvent(2L, EventType.ITEM_CREATED, deletedId, null, LocalDateTime.now()));
+        itemService.update(ownerId, hiddenId, ItemDto.builder().available(false).build());
+        itemService.delete(deletedId);
+
+        apply(new DomainEvent(3L, EventType.ITEM_UPDATED, hiddenId, null, LocalDateTime.now()),
+                new DomainEvent(4L, EventType.ITEM_DELETED, deletedId, null, LocalDateTime.now()));
+
+        assertThat(tokensOf(hiddenId)).isEmpty();
+        assertThat(tokensOf(deletedId)).isEmpty();
+    }
+
+    private void apply(DomainEvent... events) throws InterruptedException {
+        awaitOutboxDrained();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                itemTokenIndex.onEvents(List.of(events)));
+    }
+
+    private void awaitOutboxDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (outboxEventRepository.count() > 0) {
+            assertThat(System.currentTimeMillis()).as("ожидание доставки событий").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private List<String> tokensOf(Long itemId) {
+        return itemTokenRepository.findAll().stream()
+                .filter(token -> token.getItemId().equals(itemId))
+                .map(token -> token.getToken() + ":" + token.getWeight())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.item.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.markers.Constants;
+import ru.practicum.shareit.request.dto.ItemRequestAddDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EntityCacheTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void repeatedReadsHitTheCacheWithoutSharingInstances() {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId);
+        CacheRegionStatistics items = region(Constants.ITEMS_CACHE);
+        CacheRegionStatistics users = region(Constants.USERS_CACHE);
+
+        Item first = itemService.getItemById(itemId);
+        long itemHits = items.getHitCount();
+        Item second = itemService.getItemById(itemId);
+        assertThat(items.getHitCount()).isEqualTo(itemHits + 1);
+        assertThat(second).isNotSameAs(first);
+
+        User firstUser = userService.getUserById(ownerId);
+        long userHits = users.getHitCount();
+        User secondUser = userService.getUserById(ownerId);
+        assertThat(users.getHitCount()).isEqualTo(userHits + 1);
+        assertThat(secondUser).isNotSameAs(firstUser);
+    }
+
+    @Test
+    void updatesAreVisibleToTheNextRead() {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId);
+        itemService.getItemById(itemId);
+
+        itemService.update(ownerId, itemId, ItemDto.builder().name("Перфоратор").build());
+
+        Item item = itemService.getItemById(itemId);
+        assertThat(item.getName()).isEqualTo("Перфоратор");
+        assertThat(item.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void deletingOwnerDropsCachedItems() {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId);
+        itemService.getItemById(itemId);
+        userService.getUserById(ownerId);
+
+        userService.delete(ownerId);
+
+        assertThatThrownBy(() -> itemService.getItemById(itemId)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> userService.getUserById(ownerId)).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void storingSuggestionsKeepsCachedItems() {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId);
+        itemService.getItemById(itemId);
+        CacheRegionStatistics items = region(Constants.ITEMS_CACHE);
+
+        itemRequestService.add(addUser(), ItemRequestAddDto.builder().description("Нужна дрель").build());
+
+        long itemHits = items.getHitCount();
+        itemService.getItemById(itemId);
+        assertThat(items.getHitCount()).isEqualTo(itemHits + 1);
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getDomainDataRegionStatistics(name);
+    }
+
+    private Long addItem(Long ownerId) {
+        return itemService.add(ownerId, ItemDto.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .build()).getId();
+    }
+
+    private Long addUser() {
+        return userService.add(UserDto.builder()
+                .name("user")
+                .email(UUID.randomUUID() + "@mail.ru")
+                .build()).getId();
+    }
+}
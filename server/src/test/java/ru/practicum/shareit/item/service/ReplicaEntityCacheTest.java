@@ -0,0 +1,95 @@
+package ru.practicum.shareit.item.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.markers.Constants;
+import ru.practicum.shareit.outbox.OutboxEventRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-entity-cache",
+        "shareit.datasource.replicas[0].url=jdbc:h2:mem:replica-entity-cache"
+})
+class ReplicaEntityCacheTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void replicaReadsDoNotFillTheCache() throws InterruptedException {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId);
+        evictAfterOutboxIsDrained();
+        CacheRegionStatistics items = region();
+
+        long puts = items.getPutCount();
+        long hits = items.getHitCount();
+        itemService.getItemById(itemId);
+        itemService.getItemById(itemId);
+
+        assertThat(items.getPutCount()).isEqualTo(puts);
+        assertThat(items.getHitCount()).isEqualTo(hits);
+    }
+
+    @Test
+    void primaryWritesStillFillTheCacheForReplicaReads() throws InterruptedException {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId);
+        evictAfterOutboxIsDrained();
+        CacheRegionStatistics items = region();
+
+        long puts = items.getPutCount();
+        itemService.update(ownerId, itemId, ItemDto.builder().name("Перфоратор").build());
+        assertThat(items.getPutCount()).isGreaterThan(puts);
+
+        long hits = items.getHitCount();
+        Item item = itemService.getItemById(itemId);
+        assertThat(items.getHitCount()).isEqualTo(hits + 1);
+        assertThat(item.getName()).isEqualTo("Перфоратор");
+    }
+
+    private void evictAfterOutboxIsDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (outboxEventRepository.count() > 0) {
+            assertThat(System.currentTimeMillis()).as("ожидание доставки событий").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private CacheRegionStatistics region() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(Constants.ITEMS_CACHE);
+    }
+
+    private Long addItem(Long ownerId) {
+        return itemService.add(ownerId, ItemDto.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .build()).getId();
+    }
+
+    private Long addUser() {
+        return userService.add(UserDto.builder()
+                .name("user")
+                .email(UUID.randomUUID() + "@mail.ru")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-dispatcher",
+        "shareit.outbox.poll-interval=50ms",
+        "shareit.outbox.max-attempts=3"
+})
+class OutboxDispatcherTest {
+    private static final long POISON = -1L;
+
+    @Autowired
+    private DomainEventPublisher publisher;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private RecordingListener listener;
+
+    @Test
+    void poisonEventIsChargedAloneAndHealthyNeighboursAreDelivered() throws InterruptedException {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            publisher.publish(EventType.USER_UPDATED, 1L, null);
+            publisher.publish(EventType.USER_UPDATED, POISON, null);
+            publisher.publish(EventType.USER_UPDATED, 2L, null);
+            publisher.publish(EventType.USER_UPDATED, 3L, null);
+        });
+
+        awaitTrue(() -> outboxEventRepository.countByAttemptsGreaterThanEqual(3) == 1);
+
+        assertThat(listener.deliveries).containsOnly(Map.entry(1L, 1), Map.entry(2L, 1), Map.entry(3L, 1));
+        List<OutboxEvent> remaining = outboxEventRepository.findAll();
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getAggregateId()).isEqualTo(POISON);
+        assertThat(remaining.get(0).getAttempts()).isEqualTo(3);
+        assertThat(meterRegistry.get("shareit.outbox.stuck").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("shareit.outbox.failed").counter().count()).isEqualTo(3.0);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("ожидание доставки событий").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener implements DomainEventListener {
+        final Map<Long, Integer> deliveries = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvents(List<DomainEvent> events) {
+            if (events.stream().anyMatch(event -> event.getAggregateId() == POISON)) {
+                throw new IllegalStateException("Событие не может быть обработано.");
+            }
+            events.forEach(event -> deliveries.merge(event.getAggregateId(), 1, Integer::sum));
+        }
+    }
+}
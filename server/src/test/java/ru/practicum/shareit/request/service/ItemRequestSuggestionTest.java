@@ -0,0 +1,101 @@
+package ru.practicum.shareit.request.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.outbox.OutboxEventRepository;
+import ru.practicum.shareit.request.dto.ItemRequestAddDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.sql.SqlStatementCounter;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:item-request-suggestions",
+        "shareit.request.suggestions.max-token-items=2"
+})
+class ItemRequestSuggestionTest {
+    private static final String LONG_DESCRIPTION = "Дрель или шуруповёрт нужны на выходные для ремонта полок "
+            + "в новой квартире возле парка верну вечером в воскресенье";
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private SqlStatementCounter counter;
+    @Value("${shareit.sql-budget.max-statements}")
+    private int maxStatements;
+
+    @Test
+    void commonWordsAreSkippedWithinStatementBudget() throws InterruptedException {
+        Long ownerId = addUser();
+        for (int i = 0; i < 3; i++) {
+            addItem(ownerId, "Дрель", "Ударная дрель");
+        }
+        Long screwdriverId = addItem(ownerId, "Шуруповёрт", "Аккумуляторный");
+        awaitOutboxDrained();
+        Long requesterId = addUser();
+
+        counter.begin();
+        try {
+            ItemRequestDto request = itemRequestService.add(requesterId,
+                    ItemRequestAddDto.builder().description(LONG_DESCRIPTION).build());
+
+            assertThat(counter.current().getCount()).isLessThanOrEqualTo(maxStatements);
+            assertThat(request.getSuggestions()).extracting(ItemDto::getId).containsExactly(screwdriverId);
+        } finally {
+            counter.end();
+        }
+    }
+
+    @Test
+    void suggestionChangesRenewTheEntityTag() throws InterruptedException {
+        Long ownerId = addUser();
+        Long itemId = addItem(ownerId, "Палатка", "Двухместная палатка");
+        awaitOutboxDrained();
+        Long requesterId = addUser();
+        Long requestId = itemRequestService.add(requesterId,
+                ItemRequestAddDto.builder().description("Нужна палатка").build()).getId();
+        String etag = itemRequestService.getVersionTag(requesterId, requestId);
+
+        assertThat(itemRequestService.getVersionTag(requesterId, requestId)).isEqualTo(etag);
+
+        itemService.update(ownerId, itemId, ItemDto.builder().description("Трёхместная палатка").build());
+        assertThat(itemRequestService.getVersionTag(requesterId, requestId)).isNotEqualTo(etag);
+    }
+
+    private void awaitOutboxDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (outboxEventRepository.count() > 0) {
+            assertThat(System.currentTimeMillis()).as("ожидание доставки событий").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private Long addItem(Long ownerId, String name, String description) {
+        return itemService.add(ownerId, ItemDto.builder()
+                .name(name)
+                .description(description)
+                .available(true)
+                .build()).getId();
+    }
+
+    private Long addUser() {
+        return userService.add(UserDto.builder()
+                .name("user")
+                .email(UUID.randomUUID() + "@test.ru")
+                .build()).getId();
+    }
+}
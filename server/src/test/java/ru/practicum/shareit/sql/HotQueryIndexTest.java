@@ -0,0 +1,123 @@
+package ru.practicum.shareit.sql;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotQueryIndexTest {
+    private static final String POSTGRES_URL = "shareit.test.postgres.url";
+    private static final Map<String, String> HOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        HOT_QUERIES.put("SELECT * FROM bookings b WHERE b.booker_id = 7 "
+                        + "AND (b.start_date < TIMESTAMP '2030-01-01 00:00:00' "
+                        + "OR (b.start_date = TIMESTAMP '2030-01-01 00:00:00' AND b.id < 100000)) "
+                        + "ORDER BY b.start_date DESC, b.id DESC LIMIT 10",
+                "bookings_booker_start_idx");
+        HOT_QUERIES.put("SELECT * FROM bookings b WHERE b.booker_id = 7 AND b.status = 'WAITING' "
+                        + "ORDER BY b.start_date DESC, b.id DESC LIMIT 10",
+                "bookings_booker_status_start_idx");
+        HOT_QUERIES.put("SELECT * FROM bookings b WHERE b.booker_id = 7 AND b.status = 'APPROVED' "
+                        + "AND b.end_date < TIMESTAMP '2025-01-01 00:00:00' "
+                        + "ORDER BY b.start_date DESC, b.id DESC LIMIT 10",
+                "bookings_booker_status_start_idx");
+        HOT_QUERIES.put("SELECT * FROM bookings b WHERE b.item_id IN (3, 4, 5) AND b.status = 'APPROVED' "
+                        + "AND b.start_date < TIMESTAMP '2025-01-01 00:00:00'",
+                "bookings_item_status_start_idx");
+        HOT_QUERIES.put("SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id WHERE i.owner_id = 7 "
+                        + "ORDER BY b.start_date DESC, b.id DESC LIMIT 10",
+                "bookings_item_status_start_idx");
+        HOT_QUERIES.put("SELECT * FROM items i WHERE i.owner_id = 7 ORDER BY i.id LIMIT 10",
+                "items_owner_idx");
+        HOT_QUERIES.put("SELECT * FROM items i WHERE i.request_id IN (3, 4, 5)",
+                "items_request_idx");
+        HOT_QUERIES.put("SELECT * FROM comments c WHERE c.item_id IN (3, 4, 5)",
+                "comments_item_idx");
+        HOT_QUERIES.put("SELECT * FROM comments c WHERE c.author_id = 7",
+                "comments_author_idx");
+        HOT_QUERIES.put("SELECT * FROM request r WHERE r.requester_id = 7 ORDER BY r.created DESC",
+                "request_requester_created_idx");
+    }
+
+    @Test
+    void hotQueriesAvoidTableScansOnH2() throws SQLException {
+        String url = "jdbc:h2:mem:hot-query-plans;DB_CLOSE_DELAY=-1";
+        migrate(url, "sa", "", "classpath:db/migration/h2");
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            for (String query : HOT_QUERIES.keySet()) {
+                assertThat(explain(statement, "EXPLAIN " + query))
+                        .as(query)
+                        .doesNotContainIgnoringCase("tableScan");
+            }
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = POSTGRES_URL, matches = ".+")
+    void hotQueriesUseTheirIndexesOnPostgres() throws SQLException {
+        String url = System.getProperty(POSTGRES_URL);
+        String user = System.getProperty("shareit.test.postgres.user", "shareit");
+        String password = System.getProperty("shareit.test.postgres.password", "shareit");
+        migrate(url, user, password, "classpath:db/migration/postgresql");
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement statement = connection.createStatement()) {
+            fillPostgres(statement);
+            for (Map.Entry<String, String> query : HOT_QUERIES.entrySet()) {
+                assertThat(explain(statement, "EXPLAIN " + query.getKey()))
+                        .as(query.getKey())
+                        .contains(query.getValue());
+            }
+        }
+    }
+
+    private static void migrate(String url, String user, String password, String vendorLocation) {
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .locations("classpath:db/migration/common", vendorLocation)
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    private static void fillPostgres(Statement statement) throws SQLException {
+        statement.execute("INSERT INTO users (name, email) "
+                + "SELECT 'user ' || n, 'user' || n || '@test.ru' FROM generate_series(1, 2000) n");
+        statement.execute("INSERT INTO request (description, requester_id, created) "
+                + "SELECT 'request ' || n, 1 + n % 2000, DATE '2024-01-01' + n % 365 FROM generate_series(1, 20000) n");
+        statement.execute("INSERT INTO items (name, description, available, owner_id, request_id) "
+                + "SELECT 'item ' || n, 'description ' || n, n % 3 <> 0, 1 + n % 2000, "
+                + "CASE WHEN n % 4 = 0 THEN 1 + n % 20000 END FROM generate_series(1, 50000) n");
+        statement.execute("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) "
+                + "SELECT TIMESTAMP '2024-01-01 00:00:00' + n * INTERVAL '1 hour', "
+                + "TIMESTAMP '2024-01-01 00:00:00' + n * INTERVAL '1 hour' + INTERVAL '2 hours', "
+                + "i.id, 1 + (n * 7) % 2000, (ARRAY['WAITING', 'APPROVED', 'REJECTED'])[1 + n % 3] "
+                + "FROM generate_series(1, 200000) n JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) % 50000 AS rn FROM items) i ON i.rn = n % 50000");
+        statement.execute("INSERT INTO comments (text, item_id, author_id, created_date) "
+                + "SELECT 'comment ' || n, i.id, 1 + n % 2000, TIMESTAMP '2024-01-01 00:00:00' "
+                + "FROM generate_series(1, 50000) n JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) % 50000 AS rn FROM items) i ON i.rn = n % 50000");
+        statement.execute("ANALYZE");
+    }
+
+    private static String explain(Statement statement, String sql) throws SQLException {
+        StringJoiner plan = new StringJoiner("\n");
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+}